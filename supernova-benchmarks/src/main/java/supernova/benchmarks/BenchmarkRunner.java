@@ -0,0 +1,34 @@
+package supernova.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar.
+ *
+ * <p>Accepts the same arguments as the regular JMH launcher and always attaches the {@link GCProfiler}, so every
+ * suite reports allocation rate and bytes per operation next to its throughput.</p>
+ *
+ * <pre>{@code
+ * java -jar supernova-benchmarks/target/benchmarks.jar ResultBenchmark -rf json -rff result.json
+ * }</pre>
+ *
+ * @since 1.1.1
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(options).run();
+    }
+}
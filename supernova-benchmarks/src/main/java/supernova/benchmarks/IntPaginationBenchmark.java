@@ -0,0 +1,84 @@
+package supernova.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import supernova.pagination.IntPage;
+import supernova.pagination.IntPagination;
+import supernova.pagination.Page;
+
+import java.util.PrimitiveIterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading a page of an {@link IntPagination} through the generic {@link Page} accessor, which boxes
+ * every element, against the unboxed accessors of {@link IntPage}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class IntPaginationBenchmark {
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    @Param({"50"})
+    public int pageSize;
+
+    private IntPagination pagination;
+    private int pageCount;
+    private int next;
+
+    @Setup
+    public void setup() {
+        pagination = new IntPagination(pageSize);
+
+        for (int i = 0; i < size; i++) {
+            pagination.addInt(i);
+        }
+
+        pageCount = pagination.pageCount();
+    }
+
+    private int nextPageNumber() {
+        int pageNumber = next + 1;
+        next = pageNumber == pageCount ? 0 : pageNumber;
+        return pageNumber;
+    }
+
+    @Benchmark
+    public long sumBoxed() {
+        Page<Integer> page = pagination.get(nextPageNumber());
+        long sum = 0;
+        for (int i = 0; i < page.size(); i++) {
+            sum += page.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumGetInt() {
+        IntPage page = pagination.get(nextPageNumber());
+        long sum = 0;
+        for (int i = 0; i < page.size(); i++) {
+            sum += page.getInt(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumIntIterator() {
+        PrimitiveIterator.OfInt iterator = pagination.get(nextPageNumber()).intIterator();
+        long sum = 0;
+        while (iterator.hasNext()) {
+            sum += iterator.nextInt();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumIntStream() {
+        return pagination.get(nextPageNumber()).intStream().asLongStream().sum();
+    }
+}
@@ -0,0 +1,95 @@
+package supernova.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import supernova.pagination.ArrayPagination;
+import supernova.pagination.IntPagination;
+import supernova.pagination.Page;
+import supernova.pagination.Pagination;
+import supernova.pagination.TreePagination;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures page lookup and page access of the {@link Pagination} implementations.
+ *
+ * <p>Every implementation is read through the generic {@link Page}, so {@code int} boxes here as well; see
+ * {@link IntPaginationBenchmark} for its unboxed accessors.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PaginationBenchmark {
+
+    @Param({"array", "tree", "int"})
+    public String implementation;
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    @Param({"50"})
+    public int pageSize;
+
+    private Pagination<Integer> pagination;
+    private int pageCount;
+    private int next;
+
+    @Setup
+    public void setup() {
+        pagination = switch (implementation) {
+            case "array" -> new ArrayPagination<>(pageSize);
+            case "tree" -> new TreePagination<>(pageSize);
+            case "int" -> new IntPagination(pageSize);
+            default -> throw new IllegalArgumentException(implementation);
+        };
+
+        for (int i = 0; i < size; i++) {
+            pagination.add(i);
+        }
+
+        pageCount = pagination.pageCount();
+    }
+
+    private int nextPageNumber() {
+        int pageNumber = next + 1;
+        next = pageNumber == pageCount ? 0 : pageNumber;
+        return pageNumber;
+    }
+
+    @Benchmark
+    public Page<Integer> getPage() {
+        return pagination.get(nextPageNumber());
+    }
+
+    @Benchmark
+    public Page<Integer> getFromIndex() {
+        return pagination.getFromIndex((nextPageNumber() - 1) * pageSize);
+    }
+
+    @Benchmark
+    public long sumPage() {
+        Page<Integer> page = pagination.get(nextPageNumber());
+        long sum = 0;
+        for (int i = 0; i < page.size(); i++) {
+            sum += page.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Page<Integer> nextPage() {
+        int pageNumber = nextPageNumber();
+        if (pageNumber == pageCount) {
+            pageNumber = 1;
+        }
+        return pagination.get(pageNumber).nextPage();
+    }
+
+    @Benchmark
+    public boolean removeAndAdd() {
+        pagination.remove((nextPageNumber() - 1) * pageSize);
+        return pagination.add(size);
+    }
+}
@@ -0,0 +1,92 @@
+package supernova.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import supernova.functional.Result;
+import supernova.functional.Violation;
+import supernova.functional.ViolationCode;
+import supernova.functional.Warning;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the factory methods and lookups of {@link Result}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResultBenchmark {
+
+    private String value;
+    private Warning warning;
+    private Violation violation;
+    private List<Violation> violations;
+
+    private Result<Void> violatedResult;
+
+    private ViolationCode accountNotFound;
+    private ViolationCode unknown;
+
+    @Setup
+    public void setup() {
+        value = "value";
+        warning = Warning.of("deprecated field");
+        violation = Violation.of("ACCOUNT_NOT_FOUND", "Account was not found");
+        violations = List.of(
+                Violation.of("NAME_EMPTY", "Name must not be empty"),
+                Violation.of("EMAIL_INVALID", "Email is invalid"),
+                Violation.of("AGE_NEGATIVE", "Age must not be negative"),
+                Violation.of("ACCOUNT_NOT_FOUND", "Account was not found")
+        );
+        violatedResult = Result.violated(violations);
+
+        accountNotFound = ViolationCode.of("ACCOUNT_NOT_FOUND");
+        unknown = ViolationCode.of("UNKNOWN");
+    }
+
+    @Benchmark
+    public Result<String> successful() {
+        return Result.successful(value);
+    }
+
+    @Benchmark
+    public Result<Void> successfulVoid() {
+        return Result.successful();
+    }
+
+    @Benchmark
+    public Result<String> successfulWithWarning() {
+        return Result.successful(value, warning);
+    }
+
+    @Benchmark
+    public Result<String> violatedSingle() {
+        return Result.violated(violation);
+    }
+
+    @Benchmark
+    public Result<String> violatedList() {
+        return Result.violated(violations);
+    }
+
+    @Benchmark
+    public void containsViolation(Blackhole blackhole) {
+        blackhole.consume(violatedResult.containsViolation("ACCOUNT_NOT_FOUND"));
+        blackhole.consume(violatedResult.containsViolation("UNKNOWN"));
+    }
+
+    @Benchmark
+    public void containsViolationCode(Blackhole blackhole) {
+        blackhole.consume(violatedResult.containsViolation(accountNotFound));
+        blackhole.consume(violatedResult.containsViolation(unknown));
+    }
+
+    @Benchmark
+    public Violation constantViolation() {
+        return Violation.constant("ACCOUNT_NOT_FOUND", "Account was not found");
+    }
+}
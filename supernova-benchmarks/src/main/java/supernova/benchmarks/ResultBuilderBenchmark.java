@@ -0,0 +1,94 @@
+package supernova.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import supernova.functional.Result;
+import supernova.functional.ResultBuilder;
+import supernova.functional.Violation;
+import supernova.functional.Warning;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link supernova.functional.ResultBuilder#build()} for the common shapes produced by validators.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResultBuilderBenchmark {
+
+    @Param({"0", "1", "8"})
+    public int violationCount;
+
+    @Param({"0", "2"})
+    public int warningCount;
+
+    private Violation[] violations;
+    private Warning[] warnings;
+
+    private ResultBuilder<String> reusable;
+    private ResultBuilder<String> deduplicating;
+
+    @Setup
+    public void setup() {
+        violations = new Violation[violationCount];
+        for (int i = 0; i < violationCount; i++) {
+            violations[i] = Violation.of("CODE_" + i, "Violation " + i);
+        }
+
+        warnings = new Warning[warningCount];
+        for (int i = 0; i < warningCount; i++) {
+            warnings[i] = Warning.of("Warning " + i);
+        }
+
+        reusable = Result.builder();
+        deduplicating = Result.<String>builder().deduplicate(16);
+    }
+
+    @Benchmark
+    public Result<String> build() {
+        var builder = Result.<String>builder().value("value");
+
+        for (Violation violation : violations) {
+            builder.violate(violation);
+        }
+
+        for (Warning warning : warnings) {
+            builder.warn(warning);
+        }
+
+        return builder.build();
+    }
+
+    @Benchmark
+    public Result<String> buildReused() {
+        var builder = reusable.reset().value("value");
+
+        for (Violation violation : violations) {
+            builder.violate(violation);
+        }
+
+        for (Warning warning : warnings) {
+            builder.warn(warning);
+        }
+
+        return builder.build();
+    }
+
+    @Benchmark
+    public Result<String> buildDeduplicated() {
+        var builder = deduplicating.reset().value("value");
+
+        for (Violation violation : violations) {
+            builder.violate(violation);
+        }
+
+        for (Warning warning : warnings) {
+            builder.warn(warning);
+        }
+
+        return builder.build();
+    }
+}
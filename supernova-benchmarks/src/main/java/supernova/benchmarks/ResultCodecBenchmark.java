@@ -0,0 +1,96 @@
+package supernova.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import supernova.codec.JsonResultCodec;
+import supernova.codec.JsonValueCodec;
+import supernova.codec.ResultCodec;
+import supernova.codec.ValueCodec;
+import supernova.functional.Result;
+import supernova.functional.Violation;
+import supernova.functional.Warning;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures encoding and decoding of {@link Result} with {@link ResultCodec} and {@link JsonResultCodec}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResultCodecBenchmark {
+
+    private final ResultCodec<String> codec = ResultCodec.of(ValueCodec.STRING);
+    private final JsonResultCodec<String> jsonCodec = JsonResultCodec.of(JsonValueCodec.STRING);
+
+    private Result<String> successful;
+    private Result<String> violated;
+
+    private ByteBuffer buffer;
+    private ByteBuffer encodedViolated;
+    private String jsonViolated;
+
+    @Setup
+    public void setup() {
+        successful = Result.successful("a value of moderate length", Warning.of("deprecated field"));
+        violated = Result.of("a value of moderate length", List.of(
+                Violation.of("NAME_EMPTY", "Name must not be empty"),
+                Violation.of("EMAIL_INVALID", "Email is invalid"),
+                Violation.of("NAME_EMPTY", "Nickname must not be empty")
+        ), List.of());
+
+        buffer = ByteBuffer.allocateDirect(1024);
+        encodedViolated = codec.encode(violated);
+
+        StringWriter writer = new StringWriter();
+        try {
+            jsonCodec.write(violated, writer);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        jsonViolated = writer.toString();
+    }
+
+    @Benchmark
+    public ByteBuffer encodeSuccessful() {
+        buffer.clear();
+        codec.encode(successful, buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public ByteBuffer encodeViolated() {
+        buffer.clear();
+        codec.encode(violated, buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public Result<String> decodeViolated() {
+        return codec.decode(encodedViolated.duplicate());
+    }
+
+    @Benchmark
+    public List<String> violationCodes() {
+        return ResultCodec.violationCodes(encodedViolated);
+    }
+
+    @Benchmark
+    public StringWriter writeJsonViolated() throws IOException {
+        StringWriter writer = new StringWriter(256);
+        jsonCodec.write(violated, writer);
+        return writer;
+    }
+
+    @Benchmark
+    public Result<String> readJsonViolated() throws IOException {
+        return jsonCodec.read(new StringReader(jsonViolated));
+    }
+}
@@ -0,0 +1,77 @@
+package supernova.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import supernova.functional.Result;
+import supernova.functional.ResultPipeline;
+import supernova.functional.Violation;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a chain of {@link Result#map} calls with the same steps fused into a {@link ResultPipeline}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResultPipelineBenchmark {
+
+    private static final Violation NEGATIVE = Violation.of("NEGATIVE", "Value must not be negative");
+
+    private static final ResultPipeline<Long, Long> PIPELINE = ResultPipeline.<Long>start()
+            .map(value -> value + 1)
+            .map(value -> value * 3)
+            .ensure(value -> value >= 0, NEGATIVE)
+            .map(value -> value - 7)
+            .map(value -> value * 5)
+            .map(value -> value + 11)
+            .ensure(value -> value >= 0, NEGATIVE)
+            .map(value -> value / 2)
+            .map(value -> value + 13)
+            .map(value -> value * 17);
+
+    private Result<Long> successful;
+    private Result<Long> violated;
+
+    @Setup
+    public void setup() {
+        successful = Result.successful(1_000L);
+        violated = Result.violated(NEGATIVE);
+    }
+
+    @Benchmark
+    public Result<Long> chained() {
+        return chain(successful);
+    }
+
+    @Benchmark
+    public Result<Long> fused() {
+        return successful.then(PIPELINE);
+    }
+
+    @Benchmark
+    public Result<Long> chainedViolated() {
+        return chain(violated);
+    }
+
+    @Benchmark
+    public Result<Long> fusedViolated() {
+        return violated.then(PIPELINE);
+    }
+
+    private static Result<Long> chain(Result<Long> result) {
+        return result
+                .map(value -> value + 1)
+                .map(value -> value * 3)
+                .ensure(value -> value >= 0, NEGATIVE)
+                .map(value -> value - 7)
+                .map(value -> value * 5)
+                .map(value -> value + 11)
+                .ensure(value -> value >= 0, NEGATIVE)
+                .map(value -> value / 2)
+                .map(value -> value + 13)
+                .map(value -> value * 17);
+    }
+}
@@ -0,0 +1,55 @@
+package supernova.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import supernova.functional.Result;
+import supernova.functional.ViolatedException;
+import supernova.functional.Violation;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of {@link ViolatedException}, both constructed directly and thrown by {@link Result#get()}.
+ *
+ * <p>Run with {@code -jvmArgsAppend -Dsupernova.functional.lightweightViolatedException=true} to measure
+ * {@link Result#get()} with lightweight exceptions.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ViolatedExceptionBenchmark {
+
+    private List<Violation> violations;
+    private Result<String> violatedResult;
+
+    @Setup
+    public void setup() {
+        violations = List.of(
+                Violation.of("NAME_EMPTY", "Name must not be empty"),
+                Violation.of("EMAIL_INVALID", "Email is invalid")
+        );
+        violatedResult = Result.violated(violations);
+    }
+
+    @Benchmark
+    public ViolatedException construct() {
+        return new ViolatedException(violations);
+    }
+
+    @Benchmark
+    public ViolatedException constructLightweight() {
+        return new ViolatedException(violations, true);
+    }
+
+    @Benchmark
+    public Object getViolated() {
+        try {
+            return violatedResult.get();
+        } catch (ViolatedException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,462 @@
+package supernova.codec;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Streaming JSON reader which pulls tokens from a {@link Reader}, without building a tree.
+ *
+ * <p>{@link #peek()} tells the type of the next token; the {@code next*}, {@code begin*} and {@code end*}
+ * methods consume it. Malformed input and tokens of an unexpected type are reported as {@link IOException}.
+ * The reader buffers its input, so the underlying reader does not have to.</p>
+ *
+ * @since 1.1.1
+ */
+public final class JsonReader {
+
+    /**
+     * Type of a JSON token.
+     */
+    public enum Token {
+        BEGIN_OBJECT,
+        END_OBJECT,
+        BEGIN_ARRAY,
+        END_ARRAY,
+        NAME,
+        STRING,
+        NUMBER,
+        BOOLEAN,
+        NULL,
+        END_DOCUMENT
+    }
+
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_ARRAY = 2;
+    private static final int NONEMPTY_ARRAY = 3;
+    private static final int EMPTY_OBJECT = 4;
+    private static final int DANGLING_NAME = 5;
+    private static final int NONEMPTY_OBJECT = 6;
+
+    private final Reader in;
+    private final char[] buffer = new char[1024];
+    private int position;
+    private int limit;
+
+    /**
+     * Number of characters before the buffer, for error messages.
+     */
+    private long offset;
+
+    private int[] stack = new int[16];
+    private int depth;
+
+    /**
+     * The peeked token, {@code null} if the next token was not peeked yet.
+     */
+    private Token peeked;
+
+    private boolean peekedBoolean;
+    private String peekedNumber;
+
+    private final StringBuilder builder = new StringBuilder();
+
+    public JsonReader(Reader in) {
+        this.in = in;
+        this.stack[depth++] = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * Gets the type of the next token without consuming it.
+     *
+     * @return the type of the next token
+     */
+    public Token peek() throws IOException {
+        Token token = peeked;
+        if (token == null) {
+            token = peeked = doPeek();
+        }
+        return token;
+    }
+
+    public void beginObject() throws IOException {
+        expect(Token.BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+    }
+
+    public void endObject() throws IOException {
+        expect(Token.END_OBJECT);
+        depth--;
+    }
+
+    public void beginArray() throws IOException {
+        expect(Token.BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+    }
+
+    public void endArray() throws IOException {
+        expect(Token.END_ARRAY);
+        depth--;
+    }
+
+    /**
+     * Checks if the current array or object has another element or member.
+     */
+    public boolean hasNext() throws IOException {
+        Token token = peek();
+        return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+    }
+
+    public String nextName() throws IOException {
+        expect(Token.NAME);
+        return readString();
+    }
+
+    /**
+     * Reads a string, or a number as its literal text.
+     */
+    public String nextString() throws IOException {
+        Token token = peek();
+
+        if (token == Token.NUMBER) {
+            peeked = null;
+            return peekedNumber;
+        }
+
+        expect(Token.STRING);
+        return readString();
+    }
+
+    public boolean nextBoolean() throws IOException {
+        expect(Token.BOOLEAN);
+        return peekedBoolean;
+    }
+
+    public void nextNull() throws IOException {
+        expect(Token.NULL);
+    }
+
+    public long nextLong() throws IOException {
+        String number = nextNumber();
+        try {
+            return Long.parseLong(number);
+        } catch (NumberFormatException e) {
+            double value = parseDouble(number);
+            if ((long) value != value) {
+                throw new IOException("Expected a long but was " + number);
+            }
+            return (long) value;
+        }
+    }
+
+    public int nextInt() throws IOException {
+        long value = nextLong();
+        if ((int) value != value) {
+            throw new IOException("Expected an int but was " + value);
+        }
+        return (int) value;
+    }
+
+    public double nextDouble() throws IOException {
+        return parseDouble(nextNumber());
+    }
+
+    /**
+     * Parses the literal text of a number, which the tokenizer only delimits.
+     *
+     * @throws IOException if the text is not a number, e.g. {@code 1-2}
+     */
+    static double parseDouble(String number) throws IOException {
+        try {
+            return Double.parseDouble(number);
+        } catch (NumberFormatException e) {
+            throw new IOException("Malformed number " + number, e);
+        }
+    }
+
+    /**
+     * Reads a number as its literal text.
+     */
+    public String nextNumber() throws IOException {
+        expect(Token.NUMBER);
+        return peekedNumber;
+    }
+
+    /**
+     * Skips the next value, including nested arrays and objects, or the next name with its value.
+     */
+    public void skipValue() throws IOException {
+        int nesting = 0;
+
+        do {
+            Token token = peek();
+
+            if (token == Token.NAME) {
+                // the value of the name is skipped as well
+                skipString();
+                peeked = null;
+                token = peek();
+            }
+
+            switch (token) {
+                case BEGIN_OBJECT -> {
+                    beginObject();
+                    nesting++;
+                }
+                case BEGIN_ARRAY -> {
+                    beginArray();
+                    nesting++;
+                }
+                case END_OBJECT -> {
+                    endObject();
+                    nesting--;
+                }
+                case END_ARRAY -> {
+                    endArray();
+                    nesting--;
+                }
+                case STRING -> {
+                    skipString();
+                    peeked = null;
+                }
+                case END_DOCUMENT -> throw new IOException("Unexpected end of document");
+                default -> peeked = null;
+            }
+        } while (nesting > 0);
+    }
+
+    private void expect(Token expected) throws IOException {
+        Token token = peek();
+        if (token != expected) {
+            throw new IOException("Expected " + expected + " but was " + token
+                    + " at character " + (offset + position));
+        }
+        peeked = null;
+    }
+
+    private void push(int scope) {
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth << 1);
+        }
+        stack[depth++] = scope;
+    }
+
+    private Token doPeek() throws IOException {
+        int scope = stack[depth - 1];
+
+        switch (scope) {
+            case EMPTY_ARRAY -> stack[depth - 1] = NONEMPTY_ARRAY;
+            case NONEMPTY_ARRAY -> {
+                int c = nextNonWhitespace();
+                if (c == ']') {
+                    return Token.END_ARRAY;
+                }
+                if (c != ',') {
+                    throw syntaxError("Expected ',' or ']'");
+                }
+            }
+            case EMPTY_OBJECT, NONEMPTY_OBJECT -> {
+                stack[depth - 1] = DANGLING_NAME;
+                int c = nextNonWhitespace();
+
+                if (scope == NONEMPTY_OBJECT) {
+                    if (c == '}') {
+                        return Token.END_OBJECT;
+                    }
+                    if (c != ',') {
+                        throw syntaxError("Expected ',' or '}'");
+                    }
+                    c = nextNonWhitespace();
+                } else if (c == '}') {
+                    return Token.END_OBJECT;
+                }
+
+                if (c != '"') {
+                    throw syntaxError("Expected a name");
+                }
+                return Token.NAME;
+            }
+            case DANGLING_NAME -> {
+                stack[depth - 1] = NONEMPTY_OBJECT;
+                if (nextNonWhitespace() != ':') {
+                    throw syntaxError("Expected ':'");
+                }
+            }
+            case EMPTY_DOCUMENT -> stack[depth - 1] = NONEMPTY_DOCUMENT;
+            default -> {
+                if (nextNonWhitespace() != -1) {
+                    throw syntaxError("Expected end of document");
+                }
+                return Token.END_DOCUMENT;
+            }
+        }
+
+        int c = nextNonWhitespace();
+
+        return switch (c) {
+            case ']' -> {
+                if (scope != EMPTY_ARRAY) {
+                    throw syntaxError("Unexpected ']'");
+                }
+                yield Token.END_ARRAY;
+            }
+            case '{' -> Token.BEGIN_OBJECT;
+            case '[' -> Token.BEGIN_ARRAY;
+            case '"' -> Token.STRING;
+            case 't' -> {
+                readLiteral("rue");
+                peekedBoolean = true;
+                yield Token.BOOLEAN;
+            }
+            case 'f' -> {
+                readLiteral("alse");
+                peekedBoolean = false;
+                yield Token.BOOLEAN;
+            }
+            case 'n' -> {
+                readLiteral("ull");
+                yield Token.NULL;
+            }
+            case -1 -> throw syntaxError("Unexpected end of document");
+            default -> {
+                if (c != '-' && (c < '0' || c > '9')) {
+                    throw syntaxError("Unexpected character '" + (char) c + "'");
+                }
+                peekedNumber = readNumber((char) c);
+                yield Token.NUMBER;
+            }
+        };
+    }
+
+    private boolean fill() throws IOException {
+        int read = in.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        offset += limit;
+        position = 0;
+        limit = read;
+        return true;
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        while (true) {
+            int c = read();
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return c;
+            }
+        }
+    }
+
+    private void readLiteral(String rest) throws IOException {
+        for (int i = 0; i < rest.length(); i++) {
+            if (read() != rest.charAt(i)) {
+                throw syntaxError("Malformed literal");
+            }
+        }
+    }
+
+    private String readNumber(char first) throws IOException {
+        builder.setLength(0);
+        builder.append(first);
+
+        while (true) {
+            if (position == limit && !fill()) {
+                break;
+            }
+
+            char c = buffer[position];
+            if ((c >= '0' && c <= '9') || c == '.' || c == 'e' || c == 'E' || c == '+' || c == '-') {
+                builder.append(c);
+                position++;
+            } else {
+                break;
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Reads the rest of a string whose opening quote was consumed.
+     */
+    private String readString() throws IOException {
+        builder.setLength(0);
+
+        while (true) {
+            int start = position;
+
+            while (position < limit) {
+                char c = buffer[position++];
+
+                if (c == '"') {
+                    builder.append(buffer, start, position - start - 1);
+                    return builder.toString();
+                }
+
+                if (c == '\\') {
+                    builder.append(buffer, start, position - start - 1);
+                    builder.append(readEscape());
+                    start = position;
+                }
+            }
+
+            builder.append(buffer, start, position - start);
+
+            if (!fill()) {
+                throw syntaxError("Unterminated string");
+            }
+        }
+    }
+
+    private void skipString() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == '"') {
+                return;
+            }
+            if (c == '\\') {
+                readEscape();
+            } else if (c == -1) {
+                throw syntaxError("Unterminated string");
+            }
+        }
+    }
+
+    private char readEscape() throws IOException {
+        int c = read();
+
+        return switch (c) {
+            case '"', '\\', '/' -> (char) c;
+            case 'b' -> '\b';
+            case 'f' -> '\f';
+            case 'n' -> '\n';
+            case 'r' -> '\r';
+            case 't' -> '\t';
+            case 'u' -> {
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(read(), 16);
+                    if (digit < 0) {
+                        throw syntaxError("Malformed unicode escape");
+                    }
+                    value = (value << 4) | digit;
+                }
+                yield (char) value;
+            }
+            default -> throw syntaxError("Malformed escape");
+        };
+    }
+
+    private IOException syntaxError(String message) {
+        return new IOException(message + " at character " + (offset + position));
+    }
+}
@@ -0,0 +1,316 @@
+package supernova.codec;
+
+import supernova.functional.Result;
+import supernova.functional.ResultBuilder;
+import supernova.functional.Success;
+import supernova.functional.Violation;
+import supernova.functional.Warning;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Streaming JSON codec for {@link Result}, without reflection and without an intermediate tree.
+ *
+ * <p>A result is written as:</p>
+ *
+ * <pre>{@code
+ * {
+ *   "successful": false,
+ *   "value": ...,
+ *   "violations": [{"code": "NAME_EMPTY", "message": "Name must not be empty", "object": ...}],
+ *   "warnings": [{"message": "Field is deprecated"}]
+ * }
+ * }</pre>
+ *
+ * <p>{@code value} is only written for a successful result with a non-null value, and is encoded by the
+ * pluggable {@link JsonValueCodec}. {@code violations}, {@code warnings}, {@code message} and {@code object}
+ * are omitted when empty or {@code null}. The object of a violation is written as a JSON number or boolean if
+ * it is one, otherwise as its string representation, and is read back as {@link Long}, {@link Double},
+ * {@link Boolean} or {@link String}.</p>
+ *
+ * <p>Unknown members are skipped when reading. {@code successful} may be omitted, but if present it must agree
+ * with the violations, otherwise reading fails.</p>
+ *
+ * @param <T> the type of the value
+ * @since 1.1.1
+ */
+public final class JsonResultCodec<T> {
+
+    private static final JsonResultCodec<Void> VOID = new JsonResultCodec<>(new JsonValueCodec<>() {
+        @Override
+        public void write(Void value, JsonWriter writer) throws IOException {
+            writer.nullValue();
+        }
+
+        @Override
+        public Void read(JsonReader reader) throws IOException {
+            reader.skipValue();
+            return null;
+        }
+    });
+
+    private final JsonValueCodec<T> valueCodec;
+
+    private JsonResultCodec(JsonValueCodec<T> valueCodec) {
+        this.valueCodec = valueCodec;
+    }
+
+    /**
+     * Creates a codec for results whose values are encoded by the given value codec.
+     *
+     * @param valueCodec the codec of the value
+     * @return a result codec
+     * @param <T> the type of the value
+     */
+    public static <T> JsonResultCodec<T> of(JsonValueCodec<T> valueCodec) {
+        return new JsonResultCodec<>(Objects.requireNonNull(valueCodec, "valueCodec"));
+    }
+
+    /**
+     * Gets the codec for results without value.
+     *
+     * @return a result codec
+     */
+    public static JsonResultCodec<Void> ofVoid() {
+        return VOID;
+    }
+
+    /**
+     * Writes the result as UTF-8 and flushes the stream; the stream is not closed.
+     *
+     * @param result the result
+     * @param out the stream to write to
+     */
+    public void write(Result<? extends T> result, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        write(result, new JsonWriter(writer));
+        writer.flush();
+    }
+
+    /**
+     * Writes the result; the writer is neither flushed nor closed.
+     *
+     * @param result the result
+     * @param out the writer to write to
+     */
+    public void write(Result<? extends T> result, Writer out) throws IOException {
+        write(result, new JsonWriter(out));
+    }
+
+    /**
+     * Writes the result as the next value of the JSON writer, e.g. as an element of an array.
+     *
+     * @param result the result
+     * @param writer the JSON writer
+     */
+    public void write(Result<? extends T> result, JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name("successful").value(result.isSuccessful());
+
+        if (result instanceof Success<? extends T> success && success.get() != null) {
+            writer.name("value");
+            valueCodec.write(success.get(), writer);
+        }
+
+        List<Violation> violations = result.violations();
+        if (!violations.isEmpty()) {
+            writer.name("violations").beginArray();
+
+            for (Violation violation : violations) {
+                writer.beginObject();
+                writer.name("code").value(violation.getCode());
+
+                String message = violation.getMessage();
+                if (message != null) {
+                    writer.name("message").value(message);
+                }
+
+                Object object = violation.getObject();
+                if (object != null) {
+                    writer.name("object");
+                    writeObject(object, writer);
+                }
+
+                writer.endObject();
+            }
+
+            writer.endArray();
+        }
+
+        List<Warning> warnings = result.warnings();
+        if (!warnings.isEmpty()) {
+            writer.name("warnings").beginArray();
+
+            for (Warning warning : warnings) {
+                writer.beginObject();
+
+                String message = warning.message();
+                if (message != null) {
+                    writer.name("message").value(message);
+                }
+
+                writer.endObject();
+            }
+
+            writer.endArray();
+        }
+
+        writer.endObject();
+    }
+
+    /**
+     * Reads a result from UTF-8 encoded JSON.
+     *
+     * @param in the stream to read from
+     * @return the result
+     */
+    public Result<T> read(InputStream in) throws IOException {
+        return read(new JsonReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Reads a result.
+     *
+     * @param in the reader to read from
+     * @return the result
+     */
+    public Result<T> read(Reader in) throws IOException {
+        return read(new JsonReader(in));
+    }
+
+    /**
+     * Reads a result as the next value of the JSON reader.
+     *
+     * @param reader the JSON reader
+     * @return the result
+     */
+    public Result<T> read(JsonReader reader) throws IOException {
+        ResultBuilder<T> builder = Result.builder();
+        Boolean successful = null;
+        boolean violated = false;
+
+        reader.beginObject();
+
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "successful" -> successful = reader.nextBoolean();
+                case "value" -> {
+                    if (reader.peek() == JsonReader.Token.NULL) {
+                        reader.nextNull();
+                    } else {
+                        builder.value(valueCodec.read(reader));
+                    }
+                }
+                case "violations" -> {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        builder.violate(readViolation(reader));
+                        violated = true;
+                    }
+                    reader.endArray();
+                }
+                case "warnings" -> {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        builder.warn(readWarning(reader));
+                    }
+                    reader.endArray();
+                }
+                default -> reader.skipValue();
+            }
+        }
+
+        reader.endObject();
+
+        if (successful != null && successful == violated) {
+            throw new IOException(successful
+                    ? "Result is marked successful but has violations"
+                    : "Result is marked violated but has no violations");
+        }
+
+        return builder.build();
+    }
+
+    private static Violation readViolation(JsonReader reader) throws IOException {
+        Violation.Builder builder = Violation.builder();
+
+        reader.beginObject();
+
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "code" -> builder.code(readNullableString(reader));
+                case "message" -> builder.message(readNullableString(reader));
+                case "object" -> builder.object(readObject(reader));
+                default -> reader.skipValue();
+            }
+        }
+
+        reader.endObject();
+        return builder.build();
+    }
+
+    private static Warning readWarning(JsonReader reader) throws IOException {
+        String message = null;
+
+        reader.beginObject();
+
+        while (reader.hasNext()) {
+            if (reader.nextName().equals("message")) {
+                message = readNullableString(reader);
+            } else {
+                reader.skipValue();
+            }
+        }
+
+        reader.endObject();
+        return Warning.of(message);
+    }
+
+    private static String readNullableString(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonReader.Token.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return reader.nextString();
+    }
+
+    private static void writeObject(Object object, JsonWriter writer) throws IOException {
+        if (object instanceof Boolean bool) {
+            writer.value(bool);
+        } else if (object instanceof Long || object instanceof Integer || object instanceof Short
+                || object instanceof Byte) {
+            writer.value(((Number) object).longValue());
+        } else if ((object instanceof Double || object instanceof Float)
+                && Double.isFinite(((Number) object).doubleValue())) {
+            writer.value(((Number) object).doubleValue());
+        } else {
+            writer.value(String.valueOf(object));
+        }
+    }
+
+    private static Object readObject(JsonReader reader) throws IOException {
+        return switch (reader.peek()) {
+            case STRING -> reader.nextString();
+            case BOOLEAN -> reader.nextBoolean();
+            case NUMBER -> {
+                String number = reader.nextNumber();
+                try {
+                    yield Long.parseLong(number);
+                } catch (NumberFormatException e) {
+                    yield JsonReader.parseDouble(number);
+                }
+            }
+            case NULL -> {
+                reader.nextNull();
+                yield null;
+            }
+            default -> {
+                reader.skipValue();
+                yield null;
+            }
+        };
+    }
+}
@@ -0,0 +1,90 @@
+package supernova.codec;
+
+import java.io.IOException;
+
+/**
+ * Writes and reads the value of a {@link supernova.functional.Result} for {@link JsonResultCodec}.
+ *
+ * <p>The codec never sees {@code null}; a {@code null} value is omitted by the result codec.</p>
+ *
+ * @param <T> the type of the value
+ * @since 1.1.1
+ */
+public interface JsonValueCodec<T> {
+
+    JsonValueCodec<String> STRING = new JsonValueCodec<>() {
+        @Override
+        public void write(String value, JsonWriter writer) throws IOException {
+            writer.value(value);
+        }
+
+        @Override
+        public String read(JsonReader reader) throws IOException {
+            return reader.nextString();
+        }
+    };
+
+    JsonValueCodec<Integer> INTEGER = new JsonValueCodec<>() {
+        @Override
+        public void write(Integer value, JsonWriter writer) throws IOException {
+            writer.value(value);
+        }
+
+        @Override
+        public Integer read(JsonReader reader) throws IOException {
+            return reader.nextInt();
+        }
+    };
+
+    JsonValueCodec<Long> LONG = new JsonValueCodec<>() {
+        @Override
+        public void write(Long value, JsonWriter writer) throws IOException {
+            writer.value(value);
+        }
+
+        @Override
+        public Long read(JsonReader reader) throws IOException {
+            return reader.nextLong();
+        }
+    };
+
+    JsonValueCodec<Double> DOUBLE = new JsonValueCodec<>() {
+        @Override
+        public void write(Double value, JsonWriter writer) throws IOException {
+            writer.value(value);
+        }
+
+        @Override
+        public Double read(JsonReader reader) throws IOException {
+            return reader.nextDouble();
+        }
+    };
+
+    JsonValueCodec<Boolean> BOOLEAN = new JsonValueCodec<>() {
+        @Override
+        public void write(Boolean value, JsonWriter writer) throws IOException {
+            writer.value(value);
+        }
+
+        @Override
+        public Boolean read(JsonReader reader) throws IOException {
+            return reader.nextBoolean();
+        }
+    };
+
+    /**
+     * Writes the non-null value as exactly one JSON value.
+     *
+     * @param value the value
+     * @param writer the writer
+     */
+    void write(T value, JsonWriter writer) throws IOException;
+
+    /**
+     * Reads a value which is not JSON {@code null}.
+     *
+     * @param reader the reader positioned at the value
+     * @return the value
+     */
+    T read(JsonReader reader) throws IOException;
+}
@@ -0,0 +1,202 @@
+package supernova.codec;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Streaming JSON writer which writes tokens straight to a {@link Writer}, without building a tree.
+ *
+ * <p>Commas and colons are inserted automatically; the writer checks that names are only written inside
+ * objects. The writer does not buffer, so the underlying writer should.</p>
+ *
+ * @since 1.1.1
+ */
+public final class JsonWriter implements Flushable {
+
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_ARRAY = 2;
+    private static final int NONEMPTY_ARRAY = 3;
+    private static final int EMPTY_OBJECT = 4;
+    private static final int DANGLING_NAME = 5;
+    private static final int NONEMPTY_OBJECT = 6;
+
+    private static final String[] CONTROL_ESCAPES = new String[0x20];
+
+    static {
+        for (int i = 0; i < CONTROL_ESCAPES.length; i++) {
+            CONTROL_ESCAPES[i] = String.format("\\u%04x", i);
+        }
+        CONTROL_ESCAPES['\b'] = "\\b";
+        CONTROL_ESCAPES['\t'] = "\\t";
+        CONTROL_ESCAPES['\n'] = "\\n";
+        CONTROL_ESCAPES['\f'] = "\\f";
+        CONTROL_ESCAPES['\r'] = "\\r";
+    }
+
+    private final Writer out;
+
+    private int[] stack = new int[16];
+    private int depth;
+
+    public JsonWriter(Writer out) {
+        this.out = out;
+        this.stack[depth++] = EMPTY_DOCUMENT;
+    }
+
+    public JsonWriter beginObject() throws IOException {
+        beforeValue();
+        push(EMPTY_OBJECT);
+        out.write('{');
+        return this;
+    }
+
+    public JsonWriter endObject() throws IOException {
+        int scope = stack[depth - 1];
+        if (scope != EMPTY_OBJECT && scope != NONEMPTY_OBJECT) {
+            throw new IllegalStateException("Not in an object");
+        }
+        depth--;
+        out.write('}');
+        return this;
+    }
+
+    public JsonWriter beginArray() throws IOException {
+        beforeValue();
+        push(EMPTY_ARRAY);
+        out.write('[');
+        return this;
+    }
+
+    public JsonWriter endArray() throws IOException {
+        int scope = stack[depth - 1];
+        if (scope != EMPTY_ARRAY && scope != NONEMPTY_ARRAY) {
+            throw new IllegalStateException("Not in an array");
+        }
+        depth--;
+        out.write(']');
+        return this;
+    }
+
+    /**
+     * Writes the name of the next member of the current object.
+     */
+    public JsonWriter name(String name) throws IOException {
+        int scope = stack[depth - 1];
+
+        if (scope == NONEMPTY_OBJECT) {
+            out.write(',');
+        } else if (scope != EMPTY_OBJECT) {
+            throw new IllegalStateException("Name is only allowed in an object");
+        }
+
+        stack[depth - 1] = DANGLING_NAME;
+        writeString(name);
+        out.write(':');
+        return this;
+    }
+
+    public JsonWriter value(String value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        beforeValue();
+        writeString(value);
+        return this;
+    }
+
+    public JsonWriter value(long value) throws IOException {
+        beforeValue();
+        out.write(Long.toString(value));
+        return this;
+    }
+
+    /**
+     * Writes a number; JSON has no representation for {@code NaN} and infinities.
+     *
+     * @throws IllegalArgumentException if the value is not finite
+     */
+    public JsonWriter value(double value) throws IOException {
+        if (!Double.isFinite(value)) {
+            throw new IllegalArgumentException("JSON does not allow " + value);
+        }
+        beforeValue();
+        out.write(Double.toString(value));
+        return this;
+    }
+
+    public JsonWriter value(boolean value) throws IOException {
+        beforeValue();
+        out.write(value ? "true" : "false");
+        return this;
+    }
+
+    public JsonWriter nullValue() throws IOException {
+        beforeValue();
+        out.write("null");
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    private void beforeValue() throws IOException {
+        switch (stack[depth - 1]) {
+            case EMPTY_DOCUMENT -> stack[depth - 1] = NONEMPTY_DOCUMENT;
+            case EMPTY_ARRAY -> stack[depth - 1] = NONEMPTY_ARRAY;
+            case NONEMPTY_ARRAY -> out.write(',');
+            case DANGLING_NAME -> stack[depth - 1] = NONEMPTY_OBJECT;
+            case NONEMPTY_DOCUMENT -> throw new IllegalStateException("JSON must have only one top-level value");
+            default -> throw new IllegalStateException("Value in an object needs a name");
+        }
+    }
+
+    private void push(int scope) {
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth << 1);
+        }
+        stack[depth++] = scope;
+    }
+
+    private void writeString(String value) throws IOException {
+        out.write('"');
+
+        int last = 0;
+        int length = value.length();
+
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            String escape;
+
+            if (c < 0x20) {
+                escape = CONTROL_ESCAPES[c];
+            } else if (c == '"') {
+                escape = "\\\"";
+            } else if (c == '\\') {
+                escape = "\\\\";
+            } else if (c == '\u2028') {
+                escape = "\\u2028";
+            } else if (c == '\u2029') {
+                escape = "\\u2029";
+            } else {
+                continue;
+            }
+
+            if (last < i) {
+                out.write(value, last, i - last);
+            }
+            out.write(escape);
+            last = i + 1;
+        }
+
+        if (last < length) {
+            out.write(value, last, length - last);
+        }
+
+        out.write('"');
+    }
+}
@@ -0,0 +1,442 @@
+package supernova.codec;
+
+import supernova.functional.Result;
+import supernova.functional.Success;
+import supernova.functional.Violation;
+import supernova.functional.ViolationCode;
+import supernova.functional.Warning;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Compact binary codec for {@link Result}, {@link Violation} and {@link Warning}, which reads and writes
+ * {@link ByteBuffer}s directly.
+ *
+ * <p>A result is encoded as:</p>
+ *
+ * <pre>
+ * result     := flags:u8 [value] [violations] [warnings]
+ * flags      := 0x01 violated | 0x02 has value | 0x04 has warnings
+ * value      := varint length, bytes of the value codec
+ * violations := varint code count, code*, varint violation count, (varint code index, message)*
+ * warnings   := varint count, message*
+ * code       := varint length, UTF-8 bytes
+ * message    := varint (length + 1) or 0 for null, UTF-8 bytes
+ * </pre>
+ *
+ * <p>Each distinct violation code is written once per result and violations refer to it by a small index.
+ * Decoding never registers a code: a decoded violation takes the interned {@link ViolationCode} of its code
+ * if the application registered it, and keeps the plain string otherwise, so untrusted input cannot grow the
+ * registry. Since the value is length-prefixed, {@link #isSuccessful(ByteBuffer)} and
+ * {@link #violationCodes(ByteBuffer)} answer without decoding it.</p>
+ *
+ * <p>Only the value of a successful result is encoded, and the object of a violation is not encoded.</p>
+ *
+ * <p>Any buffer works, including direct and memory-mapped buffers, or a {@code MemorySegment} viewed through
+ * {@code asByteBuffer()}. Encoding throws {@link java.nio.BufferOverflowException} if the buffer has not
+ * enough room, see {@link #sizeOf(Result)}; decoding malformed input throws
+ * {@link java.nio.BufferUnderflowException} or {@link IllegalArgumentException}.</p>
+ *
+ * @param <T> the type of the value
+ * @since 1.1.1
+ */
+public final class ResultCodec<T> {
+
+    private static final int VIOLATED = 0x01;
+    private static final int HAS_VALUE = 0x02;
+    private static final int HAS_WARNINGS = 0x04;
+
+    private static final ResultCodec<Void> VOID = new ResultCodec<>(new ValueCodec<>() {
+        @Override
+        public int size(Void value) {
+            return 0;
+        }
+
+        @Override
+        public void write(Void value, ByteBuffer buffer) {
+        }
+
+        @Override
+        public Void read(ByteBuffer buffer, int length) {
+            return null;
+        }
+    });
+
+    private final ValueCodec<T> valueCodec;
+
+    private ResultCodec(ValueCodec<T> valueCodec) {
+        this.valueCodec = valueCodec;
+    }
+
+    /**
+     * Creates a codec for results whose values are encoded by the given value codec.
+     *
+     * @param valueCodec the codec of the value
+     * @return a result codec
+     * @param <T> the type of the value
+     */
+    public static <T> ResultCodec<T> of(ValueCodec<T> valueCodec) {
+        return new ResultCodec<>(Objects.requireNonNull(valueCodec, "valueCodec"));
+    }
+
+    /**
+     * Gets the codec for results without value.
+     *
+     * @return a result codec
+     */
+    public static ResultCodec<Void> ofVoid() {
+        return VOID;
+    }
+
+    /**
+     * Gets the exact number of bytes {@link #encode(Result, ByteBuffer)} produces for the result.
+     *
+     * @param result the result
+     * @return the encoded size in bytes
+     */
+    public int sizeOf(Result<? extends T> result) {
+        int size = 1;
+
+        T value = successfulValue(result);
+        if (value != null) {
+            int valueSize = valueCodec.size(value);
+            size += VarInts.size(valueSize) + valueSize;
+        }
+
+        List<Violation> violations = result.violations();
+        if (!violations.isEmpty()) {
+            String[] codes = codeTable(violations);
+
+            size += VarInts.size(codes.length);
+            for (String code : codes) {
+                int length = Utf8.length(code);
+                size += VarInts.size(length) + length;
+            }
+
+            size += VarInts.size(violations.size());
+            for (Violation violation : violations) {
+                size += VarInts.size(indexOf(codes, violation.getCode()))
+                        + Utf8.sizeNullable(violation.getMessage());
+            }
+        }
+
+        List<Warning> warnings = result.warnings();
+        if (!warnings.isEmpty()) {
+            size += VarInts.size(warnings.size());
+            for (Warning warning : warnings) {
+                size += Utf8.sizeNullable(warning.message());
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * Encodes the result into a new heap buffer of the exact size.
+     *
+     * @param result the result
+     * @return the buffer, ready to be read
+     */
+    public ByteBuffer encode(Result<? extends T> result) {
+        ByteBuffer buffer = ByteBuffer.allocate(sizeOf(result));
+        encode(result, buffer);
+        return buffer.flip();
+    }
+
+    /**
+     * Encodes the result at the position of the buffer, advancing the position.
+     *
+     * @param result the result
+     * @param buffer the buffer to write to
+     */
+    public void encode(Result<? extends T> result, ByteBuffer buffer) {
+        T value = successfulValue(result);
+        List<Violation> violations = result.violations();
+        List<Warning> warnings = result.warnings();
+
+        int flags = 0;
+        if (!violations.isEmpty()) {
+            flags |= VIOLATED;
+        }
+        if (value != null) {
+            flags |= HAS_VALUE;
+        }
+        if (!warnings.isEmpty()) {
+            flags |= HAS_WARNINGS;
+        }
+        buffer.put((byte) flags);
+
+        if (value != null) {
+            VarInts.write(valueCodec.size(value), buffer);
+            valueCodec.write(value, buffer);
+        }
+
+        if (!violations.isEmpty()) {
+            String[] codes = codeTable(violations);
+
+            VarInts.write(codes.length, buffer);
+            for (String code : codes) {
+                VarInts.write(Utf8.length(code), buffer);
+                Utf8.write(code, buffer);
+            }
+
+            VarInts.write(violations.size(), buffer);
+            for (Violation violation : violations) {
+                VarInts.write(indexOf(codes, violation.getCode()), buffer);
+                Utf8.writeNullable(violation.getMessage(), buffer);
+            }
+        }
+
+        if (!warnings.isEmpty()) {
+            VarInts.write(warnings.size(), buffer);
+            for (Warning warning : warnings) {
+                Utf8.writeNullable(warning.message(), buffer);
+            }
+        }
+    }
+
+    /**
+     * Decodes a result at the position of the buffer, advancing the position past it.
+     *
+     * @param buffer the buffer to read from
+     * @return the result
+     */
+    public Result<T> decode(ByteBuffer buffer) {
+        int flags = buffer.get();
+
+        T value = null;
+        if ((flags & HAS_VALUE) != 0) {
+            int length = VarInts.readLength(buffer);
+            int end = buffer.position() + length;
+            value = valueCodec.read(buffer, length);
+            buffer.position(end);
+        }
+
+        List<Violation> violations = List.of();
+        if ((flags & VIOLATED) != 0) {
+            String[] codes = readCodeTable(buffer);
+            ViolationCode[] interned = new ViolationCode[codes.length];
+            for (int i = 0; i < codes.length; i++) {
+                interned[i] = ViolationCode.find(codes[i]);
+            }
+            Violation[] array = new Violation[VarInts.readLength(buffer)];
+
+            for (int i = 0; i < array.length; i++) {
+                int index = VarInts.read(buffer);
+                if (index < 0 || index >= codes.length) {
+                    throw new IllegalArgumentException("Malformed violation code index: " + index);
+                }
+                String message = Utf8.readNullable(buffer);
+                array[i] = interned[index] != null
+                        ? interned[index].violation(message)
+                        : Violation.of(codes[index], message);
+            }
+
+            violations = List.of(array);
+        }
+
+        List<Warning> warnings = List.of();
+        if ((flags & HAS_WARNINGS) != 0) {
+            Warning[] array = new Warning[VarInts.readLength(buffer)];
+
+            for (int i = 0; i < array.length; i++) {
+                array[i] = Warning.of(Utf8.readNullable(buffer));
+            }
+
+            warnings = List.of(array);
+        }
+
+        return Result.of(value, violations, warnings);
+    }
+
+    /**
+     * Checks if the result encoded at the position of the buffer is successful, without moving the position.
+     *
+     * @param buffer the buffer to read from
+     * @return {@code true} if the encoded result has no violations
+     */
+    public static boolean isSuccessful(ByteBuffer buffer) {
+        return (buffer.get(buffer.position()) & VIOLATED) == 0;
+    }
+
+    /**
+     * Reads the distinct violation codes of the result encoded at the position of the buffer, without
+     * decoding the value and without moving the position.
+     *
+     * @param buffer the buffer to read from
+     * @return the violation codes, empty if the encoded result is successful
+     */
+    public static List<String> violationCodes(ByteBuffer buffer) {
+        int start = buffer.position();
+
+        try {
+            int flags = buffer.get();
+            if ((flags & VIOLATED) == 0) {
+                return List.of();
+            }
+
+            if ((flags & HAS_VALUE) != 0) {
+                int length = VarInts.readLength(buffer);
+                buffer.position(buffer.position() + length);
+            }
+
+            return List.of(readCodeTable(buffer));
+        } finally {
+            buffer.position(start);
+        }
+    }
+
+    /**
+     * Advances the position of the buffer past the encoded result, without decoding it.
+     *
+     * @param buffer the buffer to read from
+     */
+    public static void skip(ByteBuffer buffer) {
+        int flags = buffer.get();
+
+        if ((flags & HAS_VALUE) != 0) {
+            int length = VarInts.readLength(buffer);
+            buffer.position(buffer.position() + length);
+        }
+
+        if ((flags & VIOLATED) != 0) {
+            int codes = VarInts.read(buffer);
+            for (int i = 0; i < codes; i++) {
+                int length = VarInts.readLength(buffer);
+                buffer.position(buffer.position() + length);
+            }
+
+            int violations = VarInts.read(buffer);
+            for (int i = 0; i < violations; i++) {
+                VarInts.read(buffer);
+                Utf8.skipNullable(buffer);
+            }
+        }
+
+        if ((flags & HAS_WARNINGS) != 0) {
+            int warnings = VarInts.read(buffer);
+            for (int i = 0; i < warnings; i++) {
+                Utf8.skipNullable(buffer);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of bytes {@link #encodeViolation(Violation, ByteBuffer)} produces.
+     *
+     * @param violation the violation
+     * @return the encoded size in bytes
+     */
+    public static int sizeOfViolation(Violation violation) {
+        int length = Utf8.length(violation.getCode());
+        return VarInts.size(length) + length + Utf8.sizeNullable(violation.getMessage());
+    }
+
+    /**
+     * Encodes the code and message of a violation at the position of the buffer, advancing the position.
+     *
+     * @param violation the violation
+     * @param buffer the buffer to write to
+     */
+    public static void encodeViolation(Violation violation, ByteBuffer buffer) {
+        String code = violation.getCode();
+        VarInts.write(Utf8.length(code), buffer);
+        Utf8.write(code, buffer);
+        Utf8.writeNullable(violation.getMessage(), buffer);
+    }
+
+    /**
+     * Decodes a violation at the position of the buffer, advancing the position past it.
+     *
+     * @param buffer the buffer to read from
+     * @return the violation, with an interned code if the code is registered
+     */
+    public static Violation decodeViolation(ByteBuffer buffer) {
+        String code = Utf8.read(buffer, VarInts.readLength(buffer));
+        String message = Utf8.readNullable(buffer);
+        ViolationCode interned = ViolationCode.find(code);
+        return interned != null ? interned.violation(message) : Violation.of(code, message);
+    }
+
+    /**
+     * Gets the number of bytes {@link #encodeWarning(Warning, ByteBuffer)} produces.
+     *
+     * @param warning the warning
+     * @return the encoded size in bytes
+     */
+    public static int sizeOfWarning(Warning warning) {
+        return Utf8.sizeNullable(warning.message());
+    }
+
+    /**
+     * Encodes the message of a warning at the position of the buffer, advancing the position.
+     *
+     * @param warning the warning
+     * @param buffer the buffer to write to
+     */
+    public static void encodeWarning(Warning warning, ByteBuffer buffer) {
+        Utf8.writeNullable(warning.message(), buffer);
+    }
+
+    /**
+     * Decodes a warning at the position of the buffer, advancing the position past it.
+     *
+     * @param buffer the buffer to read from
+     * @return the warning
+     */
+    public static Warning decodeWarning(ByteBuffer buffer) {
+        return Warning.of(Utf8.readNullable(buffer));
+    }
+
+    private static <T> T successfulValue(Result<? extends T> result) {
+        return result instanceof Success<? extends T> success ? success.get() : null;
+    }
+
+    /**
+     * Distinct codes in order of first occurrence.
+     */
+    private static String[] codeTable(List<Violation> violations) {
+        String[] codes = new String[Math.min(violations.size(), 8)];
+        int count = 0;
+
+        for (Violation violation : violations) {
+            String code = violation.getCode();
+
+            if (indexOf(codes, count, code) < 0) {
+                if (count == codes.length) {
+                    codes = Arrays.copyOf(codes, count << 1);
+                }
+                codes[count++] = code;
+            }
+        }
+
+        return count == codes.length ? codes : Arrays.copyOf(codes, count);
+    }
+
+    private static String[] readCodeTable(ByteBuffer buffer) {
+        String[] codes = new String[VarInts.readLength(buffer)];
+
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = Utf8.read(buffer, VarInts.readLength(buffer));
+        }
+
+        return codes;
+    }
+
+    private static int indexOf(String[] codes, String code) {
+        return indexOf(codes, codes.length, code);
+    }
+
+    private static int indexOf(String[] codes, int count, String code) {
+        for (int i = 0; i < count; i++) {
+            // codes of violations created from the same constant are usually identical
+            if (codes[i] == code || codes[i].equals(code)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,119 @@
+package supernova.codec;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * UTF-8 encoding straight into a {@link ByteBuffer}, without an intermediate byte array.
+ *
+ * <p>Nullable strings are written as a varint of the byte length plus one, where {@code 0} stands for
+ * {@code null}.</p>
+ */
+final class Utf8 {
+
+    private Utf8() {
+    }
+
+    static int length(CharSequence string) {
+        int length = string.length();
+        int bytes = length;
+
+        for (int i = 0; i < length; i++) {
+            char c = string.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    bytes += 1;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length
+                        && Character.isLowSurrogate(string.charAt(i + 1))) {
+                    bytes += 2;
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    bytes += 2;
+                }
+            }
+        }
+
+        return bytes;
+    }
+
+    static void write(CharSequence string, ByteBuffer buffer) {
+        int length = string.length();
+
+        for (int i = 0; i < length; i++) {
+            char c = string.charAt(i);
+
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | (c >>> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(string.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, string.charAt(++i));
+                buffer.put((byte) (0xF0 | (codePoint >>> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >>> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >>> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogates are replaced, like String.getBytes does
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xE0 | (c >>> 12)));
+                buffer.put((byte) (0x80 | ((c >>> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    /**
+     * Decodes bytes from the current position; reads straight from the backing array if there is one.
+     */
+    static String read(ByteBuffer buffer, int length) {
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset() + buffer.position();
+            String string = new String(buffer.array(), offset, length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            return string;
+        }
+
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static int sizeNullable(String string) {
+        if (string == null) {
+            return 1;
+        }
+        int length = length(string);
+        return VarInts.size(length + 1) + length;
+    }
+
+    static void writeNullable(String string, ByteBuffer buffer) {
+        if (string == null) {
+            buffer.put((byte) 0);
+            return;
+        }
+        VarInts.write(length(string) + 1, buffer);
+        write(string, buffer);
+    }
+
+    static String readNullable(ByteBuffer buffer) {
+        int length = VarInts.read(buffer) - 1;
+        if (length < 0) {
+            return null;
+        }
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return read(buffer, length);
+    }
+
+    static void skipNullable(ByteBuffer buffer) {
+        int length = VarInts.read(buffer) - 1;
+        if (length > 0) {
+            buffer.position(buffer.position() + length);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package supernova.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes the value of a {@link supernova.functional.Result} for {@link ResultCodec}.
+ *
+ * <p>The codec never sees {@code null}; a {@code null} value is recorded by the result codec itself. The
+ * encoded value is prefixed with its length, so {@link #read(ByteBuffer, int)} knows how many bytes belong
+ * to it and readers that are not interested in the value skip it without decoding.</p>
+ *
+ * @param <T> the type of the value
+ * @since 1.1.1
+ */
+public interface ValueCodec<T> {
+
+    /**
+     * UTF-8 string.
+     */
+    ValueCodec<String> STRING = new ValueCodec<>() {
+        @Override
+        public int size(String value) {
+            return Utf8.length(value);
+        }
+
+        @Override
+        public void write(String value, ByteBuffer buffer) {
+            Utf8.write(value, buffer);
+        }
+
+        @Override
+        public String read(ByteBuffer buffer, int length) {
+            return Utf8.read(buffer, length);
+        }
+    };
+
+    /**
+     * Integer as a varint; negative numbers take five bytes.
+     */
+    ValueCodec<Integer> INTEGER = new ValueCodec<>() {
+        @Override
+        public int size(Integer value) {
+            return VarInts.size(value);
+        }
+
+        @Override
+        public void write(Integer value, ByteBuffer buffer) {
+            VarInts.write(value, buffer);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int length) {
+            return VarInts.read(buffer);
+        }
+    };
+
+    /**
+     * Long as eight big-endian bytes.
+     */
+    ValueCodec<Long> LONG = new ValueCodec<>() {
+        @Override
+        public int size(Long value) {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(Long value, ByteBuffer buffer) {
+            buffer.putLong(value);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int length) {
+            return buffer.getLong();
+        }
+    };
+
+    /**
+     * Double as eight big-endian bytes.
+     */
+    ValueCodec<Double> DOUBLE = new ValueCodec<>() {
+        @Override
+        public int size(Double value) {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void write(Double value, ByteBuffer buffer) {
+            buffer.putDouble(value);
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer, int length) {
+            return buffer.getDouble();
+        }
+    };
+
+    /**
+     * Boolean as one byte.
+     */
+    ValueCodec<Boolean> BOOLEAN = new ValueCodec<>() {
+        @Override
+        public int size(Boolean value) {
+            return 1;
+        }
+
+        @Override
+        public void write(Boolean value, ByteBuffer buffer) {
+            buffer.put(value ? (byte) 1 : (byte) 0);
+        }
+
+        @Override
+        public Boolean read(ByteBuffer buffer, int length) {
+            return buffer.get() != 0;
+        }
+    };
+
+    /**
+     * Gets the exact number of bytes {@link #write(Object, ByteBuffer)} produces for the value.
+     *
+     * @param value the non-null value
+     * @return the encoded size in bytes
+     */
+    int size(T value);
+
+    /**
+     * Writes the value at the position of the buffer, advancing the position by {@link #size(Object)} bytes.
+     *
+     * @param value the non-null value
+     * @param buffer the buffer to write to
+     */
+    void write(T value, ByteBuffer buffer);
+
+    /**
+     * Reads a value at the position of the buffer.
+     *
+     * @param buffer the buffer to read from
+     * @param length the number of bytes of the encoded value
+     * @return the value
+     */
+    T read(ByteBuffer buffer, int length);
+}
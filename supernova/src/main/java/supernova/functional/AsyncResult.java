@@ -0,0 +1,256 @@
+package supernova.functional;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Result} which is computed asynchronously, backed by a {@link CompletableFuture}.
+ *
+ * <p>Transformations never block: they are registered on the underlying future and run once the result is
+ * available. A violated result short-circuits every following {@link #map(Function)} and
+ * {@link #flatMap(Function)}, its violations and warnings pass through unchanged.</p>
+ *
+ * <p>Each async result carries an {@link Executor} for the {@code *Async} variants of the transformations.
+ * If none is given, every task runs on its own virtual thread, which suits operations that block on I/O.
+ * The non-async transformations run on the thread that completes the previous stage, so they should be
+ * cheap.</p>
+ *
+ * <p>An exception thrown by a supplier or a transformation completes the future exceptionally, as specified
+ * by {@link CompletableFuture}.</p>
+ *
+ * @param <T> the type of the contained value.
+ * @since 1.1.1
+ */
+public final class AsyncResult<T> {
+
+    /**
+     * Starts a new virtual thread for every task.
+     */
+    private static final Executor VIRTUAL_THREAD_EXECUTOR = command -> Thread.ofVirtual().start(command);
+
+    private final CompletableFuture<Result<T>> future;
+    private final Executor executor;
+
+    private AsyncResult(CompletableFuture<Result<T>> future, Executor executor) {
+        this.future = future;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the default executor of async results, which runs every task on a new virtual thread.
+     *
+     * @return the default executor
+     */
+    public static Executor defaultExecutor() {
+        return VIRTUAL_THREAD_EXECUTOR;
+    }
+
+    /**
+     * Computes a result on a new virtual thread.
+     *
+     * @param supplier the operation which produces the result
+     * @return the async result of the operation
+     * @param <T> the type of value
+     */
+    public static <T> AsyncResult<T> supply(Supplier<Result<T>> supplier) {
+        return supply(supplier, VIRTUAL_THREAD_EXECUTOR);
+    }
+
+    /**
+     * Computes a result on the given executor.
+     *
+     * @param supplier the operation which produces the result
+     * @param executor the executor which runs the operation and the following {@code *Async} transformations
+     * @return the async result of the operation
+     * @param <T> the type of value
+     */
+    public static <T> AsyncResult<T> supply(Supplier<Result<T>> supplier, Executor executor) {
+        Objects.requireNonNull(supplier, "supplier");
+        Objects.requireNonNull(executor, "executor");
+        return new AsyncResult<>(CompletableFuture.supplyAsync(supplier, executor), executor);
+    }
+
+    /**
+     * Wraps a stage that completes with a result.
+     *
+     * @param stage the stage of the result
+     * @return the async result of the stage
+     * @param <T> the type of value
+     */
+    public static <T> AsyncResult<T> of(CompletionStage<Result<T>> stage) {
+        return of(stage, VIRTUAL_THREAD_EXECUTOR);
+    }
+
+    /**
+     * Wraps a stage that completes with a result.
+     *
+     * @param stage the stage of the result
+     * @param executor the executor which runs the {@code *Async} transformations
+     * @return the async result of the stage
+     * @param <T> the type of value
+     */
+    public static <T> AsyncResult<T> of(CompletionStage<Result<T>> stage, Executor executor) {
+        Objects.requireNonNull(executor, "executor");
+        return new AsyncResult<>(stage.toCompletableFuture(), executor);
+    }
+
+    /**
+     * Returns an async result that is already completed.
+     *
+     * @param result the result
+     * @return the completed async result
+     * @param <T> the type of value
+     */
+    public static <T> AsyncResult<T> completed(Result<T> result) {
+        Objects.requireNonNull(result, "result");
+        return new AsyncResult<>(CompletableFuture.completedFuture(result), VIRTUAL_THREAD_EXECUTOR);
+    }
+
+    /**
+     * Returns the same async result whose {@code *Async} transformations run on the given executor.
+     *
+     * @param executor the executor
+     * @return an async result backed by the same future
+     */
+    public AsyncResult<T> withExecutor(Executor executor) {
+        Objects.requireNonNull(executor, "executor");
+        return new AsyncResult<>(future, executor);
+    }
+
+    /**
+     * If the result is successful, transforms its value once it is available; otherwise passes the violations
+     * through.
+     *
+     * @param mapper the function applied to the value
+     * @return the async result of the transformation
+     * @param <U> the type of the new value
+     */
+    public <U> AsyncResult<U> map(Function<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper");
+        return new AsyncResult<>(future.thenApply(result -> mapResult(result, mapper)), executor);
+    }
+
+    /**
+     * Same as {@link #map(Function)}, but the function runs on the executor of this async result.
+     *
+     * @param mapper the function applied to the value
+     * @return the async result of the transformation
+     * @param <U> the type of the new value
+     */
+    public <U> AsyncResult<U> mapAsync(Function<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper");
+        return new AsyncResult<>(future.thenApplyAsync(result -> mapResult(result, mapper), executor), executor);
+    }
+
+    /**
+     * If the result is successful, continues with another asynchronous operation; otherwise passes the
+     * violations through. Warnings of this result are kept in front of the warnings of the next one.
+     *
+     * @param mapper the function which starts the next operation
+     * @return the async result of the next operation
+     * @param <U> the type of the new value
+     */
+    public <U> AsyncResult<U> flatMap(Function<? super T, AsyncResult<U>> mapper) {
+        Objects.requireNonNull(mapper, "mapper");
+        return new AsyncResult<>(future.thenCompose(result -> flatMapResult(result, mapper)), executor);
+    }
+
+    /**
+     * Same as {@link #flatMap(Function)}, but the function runs on the executor of this async result.
+     *
+     * @param mapper the function which starts the next operation
+     * @return the async result of the next operation
+     * @param <U> the type of the new value
+     */
+    public <U> AsyncResult<U> flatMapAsync(Function<? super T, AsyncResult<U>> mapper) {
+        Objects.requireNonNull(mapper, "mapper");
+        return new AsyncResult<>(future.thenComposeAsync(result -> flatMapResult(result, mapper), executor),
+                executor);
+    }
+
+    /**
+     * If result is successful then performs the given action with the value once it is available,
+     * otherwise perform nothing.
+     */
+    public AsyncResult<T> whenSuccessful(Consumer<? super T> action) {
+        Objects.requireNonNull(action, "action");
+        return new AsyncResult<>(future.thenApply(result -> result.whenSuccessful(action)), executor);
+    }
+
+    /**
+     * If result is violated then performs the given action with the violations once they are available,
+     * otherwise perform nothing.
+     */
+    public AsyncResult<T> whenViolated(Consumer<Collection<Violation>> action) {
+        Objects.requireNonNull(action, "action");
+        return new AsyncResult<>(future.thenApply(result -> result.whenViolated(action)), executor);
+    }
+
+    /**
+     * If result have warning then performs the given action with the warnings once they are available,
+     * otherwise perform nothing.
+     */
+    public AsyncResult<T> whenWarning(Consumer<Collection<Warning>> action) {
+        Objects.requireNonNull(action, "action");
+        return new AsyncResult<>(future.thenApply(result -> result.whenWarning(action)), executor);
+    }
+
+    /**
+     * Checks if the result is available.
+     *
+     * @return {@code true} if the underlying future is completed in any fashion
+     */
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    /**
+     * Waits for the result. Blocks the calling thread, so it should only be used at the edge of an
+     * asynchronous flow.
+     *
+     * @return the result
+     * @throws java.util.concurrent.CompletionException if the operation completed exceptionally
+     */
+    public Result<T> join() {
+        return future.join();
+    }
+
+    /**
+     * Gets the underlying future.
+     *
+     * @return the future which completes with the result
+     */
+    public CompletableFuture<Result<T>> toCompletableFuture() {
+        return future;
+    }
+
+    private static <T, U> Result<U> mapResult(Result<T> result, Function<? super T, ? extends U> mapper) {
+        if (result instanceof Violated<T> violated) {
+            return violated.propagate();
+        }
+        return Result.trusted(mapper.apply(result.value()), Result.EMPTY_VIOLATIONS, result.warnings());
+    }
+
+    private static <T, U> CompletableFuture<Result<U>> flatMapResult(
+            Result<T> result, Function<? super T, AsyncResult<U>> mapper) {
+        if (result instanceof Violated<T> violated) {
+            return CompletableFuture.completedFuture(violated.propagate());
+        }
+
+        CompletableFuture<Result<U>> next = mapper.apply(result.value()).future;
+        return result.hasWarning()
+                ? next.thenApply(nextResult -> Result.withWarnings(result.warnings(), nextResult))
+                : next;
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncResult[" + future + "]";
+    }
+}
@@ -0,0 +1,114 @@
+package supernova.functional;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An append-only sequence of elements stored in linked chunks, used to merge the violations, warnings and
+ * values of many results.
+ *
+ * <p>Appending never moves existing elements and two chains are joined in constant time by linking their
+ * chunks, so merging partial aggregations, e.g. in a parallel stream, stays linear in the total number of
+ * elements. {@link #toList()} copies the elements once into the final list.</p>
+ *
+ * <p>Not thread-safe, and a chain given to {@link #concat(Chain)} must not be used afterward.</p>
+ *
+ * @param <E> the type of elements
+ */
+final class Chain<E> {
+
+    private static final int FIRST_CHUNK = 8;
+    private static final int MAX_CHUNK = 1024;
+
+    private Chunk head;
+    private Chunk tail;
+    private int size;
+
+    void add(E element) {
+        Chunk chunk = tail;
+
+        if (chunk == null || chunk.count == chunk.items.length) {
+            chunk = new Chunk(chunk == null ? FIRST_CHUNK : Math.min(chunk.items.length << 1, MAX_CHUNK));
+            if (tail == null) {
+                head = chunk;
+            } else {
+                tail.next = chunk;
+            }
+            tail = chunk;
+        }
+
+        chunk.items[chunk.count++] = element;
+        size++;
+    }
+
+    void addAll(Collection<? extends E> elements) {
+        for (E element : elements) {
+            add(element);
+        }
+    }
+
+    /**
+     * Appends all the elements of the other chain by linking its chunks.
+     *
+     * @param other the chain to append, which must not be used afterward
+     * @return this chain
+     */
+    Chain<E> concat(Chain<E> other) {
+        if (other.head == null) {
+            return this;
+        }
+
+        if (head == null) {
+            head = other.head;
+        } else {
+            tail.next = other.head;
+        }
+
+        tail = other.tail;
+        size += other.size;
+        return this;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Copies the elements into an unmodifiable list, which may contain {@code null}s.
+     *
+     * @return the elements in insertion order
+     */
+    @SuppressWarnings("unchecked")
+    List<E> toList() {
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+
+        Object[] array = new Object[size];
+        int i = 0;
+
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            System.arraycopy(chunk.items, 0, array, i, chunk.count);
+            i += chunk.count;
+        }
+
+        return Collections.unmodifiableList((List<E>) Arrays.asList(array));
+    }
+
+    private static final class Chunk {
+
+        private final Object[] items;
+        private int count;
+        private Chunk next;
+
+        private Chunk(int capacity) {
+            this.items = new Object[capacity];
+        }
+    }
+}
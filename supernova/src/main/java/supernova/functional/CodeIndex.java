@@ -0,0 +1,125 @@
+package supernova.functional;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The violation codes of a violated result, indexed by the ids of their interned {@link ViolationCode}s.
+ *
+ * <p>Building and querying the index never registers a code: violations whose code is not registered are
+ * kept aside and matched by name. Ids below {@value #BITSET_IDS} are kept in a bitset, higher ids in a sorted
+ * array, so the index of a result stays small however many codes the process has registered.</p>
+ *
+ * @since 1.1.1
+ */
+final class CodeIndex {
+
+    /**
+     * Ids below this limit are kept in the bitset, which has at most 16 words.
+     */
+    private static final int BITSET_IDS = 1024;
+
+    private static final long[] NO_BITS = {};
+    private static final int[] NO_IDS = {};
+    private static final Violation[] NO_VIOLATIONS = {};
+
+    private final long[] bits;
+
+    /**
+     * Sorted ids from {@link #BITSET_IDS} upwards.
+     */
+    private final int[] ids;
+
+    /**
+     * Violations whose code was not registered when the index was built.
+     */
+    private final Violation[] unindexed;
+
+    private CodeIndex(long[] bits, int[] ids, Violation[] unindexed) {
+        this.bits = bits;
+        this.ids = ids;
+        this.unindexed = unindexed;
+    }
+
+    /**
+     * Indexes the codes of the violations.
+     *
+     * @param violations the violations of a result
+     * @return the index
+     */
+    static CodeIndex of(List<Violation> violations) {
+        int size = violations.size();
+        int[] ids = new int[size];
+        Violation[] unindexed = new Violation[size];
+        int idCount = 0;
+        int unindexedCount = 0;
+        int maxBitId = -1;
+
+        for (Violation violation : violations) {
+            ViolationCode code = violation.getViolationCode();
+            if (code == null) {
+                unindexed[unindexedCount++] = violation;
+            } else if (code.id() < BITSET_IDS) {
+                maxBitId = Math.max(maxBitId, code.id());
+            } else {
+                ids[idCount++] = code.id();
+            }
+        }
+
+        long[] bits = maxBitId < 0 ? NO_BITS : new long[(maxBitId >>> 6) + 1];
+        if (maxBitId >= 0) {
+            for (Violation violation : violations) {
+                ViolationCode code = violation.getViolationCode();
+                if (code != null && code.id() < BITSET_IDS) {
+                    bits[code.id() >>> 6] |= 1L << code.id();
+                }
+            }
+        }
+
+        if (idCount == 0) {
+            ids = NO_IDS;
+        } else {
+            ids = Arrays.copyOf(ids, idCount);
+            Arrays.sort(ids);
+        }
+
+        return new CodeIndex(bits, ids,
+                unindexedCount == 0 ? NO_VIOLATIONS : Arrays.copyOf(unindexed, unindexedCount));
+    }
+
+    /**
+     * Checks if a violation has the interned code.
+     */
+    boolean contains(ViolationCode code) {
+        int id = code.id();
+
+        if (id < BITSET_IDS) {
+            int word = id >>> 6;
+            if (word < bits.length && (bits[word] & (1L << id)) != 0) {
+                return true;
+            }
+        } else if (Arrays.binarySearch(ids, id) >= 0) {
+            return true;
+        }
+
+        // the code may have been registered after the index was built
+        return scan(code.name());
+    }
+
+    /**
+     * Checks if a violation has the code, without registering it.
+     */
+    boolean contains(String code) {
+        ViolationCode registered = ViolationCode.find(code);
+        return registered != null ? contains(registered) : scan(code);
+    }
+
+    private boolean scan(String code) {
+        for (Violation violation : unindexed) {
+            if (violation.getCode().equals(code)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
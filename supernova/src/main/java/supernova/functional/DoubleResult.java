@@ -0,0 +1,189 @@
+package supernova.functional;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+
+/**
+ * A {@link Result} specialized for {@code double} values, which holds the value without boxing.
+ *
+ * <p>It has the same semantics as {@link Result}: a result that have no violations is stated as successful;
+ * otherwise it is stated as violated. A violated result has no value.</p>
+ *
+ * @since 1.1.1
+ */
+public final class DoubleResult extends PrimitiveResult<DoubleResult> {
+
+    private final double value;
+
+    private DoubleResult(double value, List<Violation> violations, List<Warning> warnings) {
+        super(violations, warnings);
+        this.value = value;
+    }
+
+    /**
+     * Returns a successful {@link DoubleResult} with a value.
+     *
+     * @param value the value
+     * @return a successful {@link DoubleResult} with the value
+     */
+    public static DoubleResult successful(double value) {
+        return new DoubleResult(value, Result.EMPTY_VIOLATIONS, Result.EMPTY_WARNINGS);
+    }
+
+    /**
+     * Returns a successful {@link DoubleResult} with a value and a warning.
+     *
+     * @param value the value
+     * @param warning the instance of the warning
+     * @return a successful {@link DoubleResult} with a value and a warning
+     */
+    public static DoubleResult successful(double value, Warning warning) {
+        return new DoubleResult(value, Result.EMPTY_VIOLATIONS, List.of(Objects.requireNonNull(warning, "warning")));
+    }
+
+    /**
+     * Returns a successful {@link DoubleResult} with a value and list of warnings.
+     *
+     * @param value the value
+     * @param warnings list of warnings
+     * @return a successful {@link DoubleResult} with a value and warnings
+     */
+    public static DoubleResult successful(double value, List<Warning> warnings) {
+        if (warnings == null || warnings.isEmpty()) {
+            return successful(value);
+        }
+        return new DoubleResult(value, Result.EMPTY_VIOLATIONS, List.copyOf(warnings));
+    }
+
+    /**
+     * Returns violated {@link DoubleResult} with single violation.
+     *
+     * @param violation a violation
+     * @return violated {@link DoubleResult} with single violation
+     */
+    public static DoubleResult violated(Violation violation) {
+        return new DoubleResult(0, List.of(Objects.requireNonNull(violation, "violation")), Result.EMPTY_WARNINGS);
+    }
+
+    /**
+     * Returns violated {@link DoubleResult} with collection of violations.
+     *
+     * @param violations list of violations
+     * @return violated {@link DoubleResult} with collection of violations
+     * @throws IllegalArgumentException if there is no violation
+     */
+    public static DoubleResult violated(Violation... violations) {
+        return violated(List.of(violations));
+    }
+
+    /**
+     * Returns violated {@link DoubleResult} with collection of violations.
+     *
+     * @param violations list of violations
+     * @return violated {@link DoubleResult} with collection of violations
+     * @throws IllegalArgumentException if the list is {@code null} or empty
+     */
+    public static DoubleResult violated(List<Violation> violations) {
+        return new DoubleResult(0, requireViolations(violations), Result.EMPTY_WARNINGS);
+    }
+
+    /**
+     * Converts a boxed {@link Result} into an {@link DoubleResult}, keeping its violations and warnings.
+     *
+     * @param result the boxed result
+     * @return the unboxed result
+     * @throws NullPointerException if the result is successful and its value is {@code null}
+     */
+    public static DoubleResult from(Result<Double> result) {
+        if (result.isViolated()) {
+            return new DoubleResult(0, result.violations(), result.warnings());
+        }
+
+        Double value = Objects.requireNonNull(result.value(), "value of the successful result is null");
+        return successful(value, result.warnings());
+    }
+
+    /**
+     * Converts this result into a boxed {@link Result}, keeping its violations and warnings.
+     *
+     * @return the boxed result; violated results have a {@code null} value
+     */
+    public Result<Double> toResult() {
+        return Result.trusted(violations.isEmpty() ? value : null, violations, warnings);
+    }
+
+    /**
+     * If result is successful then performs the given action with the value, otherwise
+     * perform nothing.
+     */
+    public DoubleResult whenSuccessful(DoubleConsumer action) {
+        if (violations.isEmpty()) {
+            action.accept(value);
+        }
+        return this;
+    }
+
+    /**
+     * If the result is successful returns the value.
+     *
+     * @throws ViolatedException if the result is violated
+     * @return the value
+     */
+    public double getAsDouble() {
+        if (!violations.isEmpty()) {
+            throw ViolatedException.of(violations);
+        }
+        return value;
+    }
+
+    /**
+     * If the result is successful returns the value, otherwise returns the default value.
+     *
+     * @param defaultValue the default value
+     * @return the value if the result is successful or default value if violated
+     */
+    public double getOrElse(double defaultValue) {
+        if (!violations.isEmpty()) {
+            return defaultValue;
+        }
+        return value;
+    }
+
+    /**
+     * Returns a sequential {@link DoubleStream} containing the value if this result is
+     * successful. Otherwise, returns an empty stream.
+     *
+     * @return a stream containing the value if this result is successful; otherwise an empty stream
+     */
+    public DoubleStream stream() {
+        return violations.isEmpty()
+                ? DoubleStream.of(value)
+                : DoubleStream.empty();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (!(obj instanceof DoubleResult other)) {
+            return false;
+        }
+
+        return Double.compare(value, other.value) == 0
+                && violations.equals(other.violations);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 + Double.hashCode(value)) + violations.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toString("DoubleResult", String.valueOf(value));
+    }
+}
@@ -0,0 +1,77 @@
+package supernova.functional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The source of a message of a {@link Violation} which is rendered on first use.
+ *
+ * <p>The owner keeps the message in a single field holding either the rendered {@code String}, {@code null},
+ * {@link #RENDERED_NULL} or the unrendered {@link LazyMessage}; see {@link #message(Object)}. Once rendered, the
+ * owner replaces the source by the message, so the supplier and the arguments are released.</p>
+ *
+ * @since 1.1.1
+ */
+final class LazyMessage {
+
+    /**
+     * Marks a message whose source rendered {@code null}, so that it is not rendered again.
+     */
+    static final Object RENDERED_NULL = new Object();
+
+    private final Supplier<String> supplier;
+    private final String template;
+    private final Object[] args;
+
+    private LazyMessage(Supplier<String> supplier, String template, Object[] args) {
+        this.supplier = supplier;
+        this.template = template;
+        this.args = args;
+    }
+
+    static LazyMessage of(Supplier<String> supplier) {
+        return new LazyMessage(supplier, null, null);
+    }
+
+    static LazyMessage format(String template, Object[] args) {
+        return new LazyMessage(null, template, args);
+    }
+
+    /**
+     * Renders the message.
+     */
+    String render() {
+        return supplier != null ? supplier.get() : String.format(template, args);
+    }
+
+    /**
+     * Gets a key of the message of a message field without rendering it: the message if it is rendered or
+     * eager, otherwise the supplier, or the template with the arguments.
+     */
+    static Object key(Object field) {
+        if (field instanceof LazyMessage source) {
+            return source.supplier != null
+                    ? source.supplier
+                    : new Template(source.template, source.args == null ? null : Arrays.asList(source.args));
+        }
+        return message(field);
+    }
+
+    private record Template(String template, List<Object> args) {
+    }
+
+    /**
+     * Gets the message of a message field which is already rendered or eager.
+     */
+    static String message(Object field) {
+        return field == RENDERED_NULL ? null : (String) field;
+    }
+
+    /**
+     * Gets the value of a message field after rendering it.
+     */
+    static Object rendered(String message) {
+        return message == null ? RENDERED_NULL : message;
+    }
+}
@@ -0,0 +1,208 @@
+package supernova.functional;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+/**
+ * A {@link Result} specialized for {@code long} values, which holds the value without boxing.
+ *
+ * <p>It has the same semantics as {@link Result}: a result that have no violations is stated as successful;
+ * otherwise it is stated as violated. A violated result has no value.</p>
+ *
+ * <p>Successful results of small values without warnings are cached.</p>
+ *
+ * @since 1.1.1
+ */
+public final class LongResult extends PrimitiveResult<LongResult> {
+
+    private static final int CACHE_LOW = -128;
+    private static final int CACHE_HIGH = 127;
+
+    /**
+     * Common instances for small successful values.
+     */
+    private static final LongResult[] CACHE = new LongResult[CACHE_HIGH - CACHE_LOW + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new LongResult(i + CACHE_LOW, Result.EMPTY_VIOLATIONS, Result.EMPTY_WARNINGS);
+        }
+    }
+
+    private final long value;
+
+    private LongResult(long value, List<Violation> violations, List<Warning> warnings) {
+        super(violations, warnings);
+        this.value = value;
+    }
+
+    /**
+     * Returns a successful {@link LongResult} with a value.
+     *
+     * @param value the value
+     * @return a successful {@link LongResult} with the value
+     */
+    public static LongResult successful(long value) {
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+            return CACHE[(int) value - CACHE_LOW];
+        }
+        return new LongResult(value, Result.EMPTY_VIOLATIONS, Result.EMPTY_WARNINGS);
+    }
+
+    /**
+     * Returns a successful {@link LongResult} with a value and a warning.
+     *
+     * @param value the value
+     * @param warning the instance of the warning
+     * @return a successful {@link LongResult} with a value and a warning
+     */
+    public static LongResult successful(long value, Warning warning) {
+        return new LongResult(value, Result.EMPTY_VIOLATIONS, List.of(Objects.requireNonNull(warning, "warning")));
+    }
+
+    /**
+     * Returns a successful {@link LongResult} with a value and list of warnings.
+     *
+     * @param value the value
+     * @param warnings list of warnings
+     * @return a successful {@link LongResult} with a value and warnings
+     */
+    public static LongResult successful(long value, List<Warning> warnings) {
+        if (warnings == null || warnings.isEmpty()) {
+            return successful(value);
+        }
+        return new LongResult(value, Result.EMPTY_VIOLATIONS, List.copyOf(warnings));
+    }
+
+    /**
+     * Returns violated {@link LongResult} with single violation.
+     *
+     * @param violation a violation
+     * @return violated {@link LongResult} with single violation
+     */
+    public static LongResult violated(Violation violation) {
+        return new LongResult(0, List.of(Objects.requireNonNull(violation, "violation")), Result.EMPTY_WARNINGS);
+    }
+
+    /**
+     * Returns violated {@link LongResult} with collection of violations.
+     *
+     * @param violations list of violations
+     * @return violated {@link LongResult} with collection of violations
+     * @throws IllegalArgumentException if there is no violation
+     */
+    public static LongResult violated(Violation... violations) {
+        return violated(List.of(violations));
+    }
+
+    /**
+     * Returns violated {@link LongResult} with collection of violations.
+     *
+     * @param violations list of violations
+     * @return violated {@link LongResult} with collection of violations
+     * @throws IllegalArgumentException if the list is {@code null} or empty
+     */
+    public static LongResult violated(List<Violation> violations) {
+        return new LongResult(0, requireViolations(violations), Result.EMPTY_WARNINGS);
+    }
+
+    /**
+     * Converts a boxed {@link Result} into an {@link LongResult}, keeping its violations and warnings.
+     *
+     * @param result the boxed result
+     * @return the unboxed result
+     * @throws NullPointerException if the result is successful and its value is {@code null}
+     */
+    public static LongResult from(Result<Long> result) {
+        if (result.isViolated()) {
+            return new LongResult(0, result.violations(), result.warnings());
+        }
+
+        Long value = Objects.requireNonNull(result.value(), "value of the successful result is null");
+        return successful(value, result.warnings());
+    }
+
+    /**
+     * Converts this result into a boxed {@link Result}, keeping its violations and warnings.
+     *
+     * @return the boxed result; violated results have a {@code null} value
+     */
+    public Result<Long> toResult() {
+        return Result.trusted(violations.isEmpty() ? value : null, violations, warnings);
+    }
+
+    /**
+     * If result is successful then performs the given action with the value, otherwise
+     * perform nothing.
+     */
+    public LongResult whenSuccessful(LongConsumer action) {
+        if (violations.isEmpty()) {
+            action.accept(value);
+        }
+        return this;
+    }
+
+    /**
+     * If the result is successful returns the value.
+     *
+     * @throws ViolatedException if the result is violated
+     * @return the value
+     */
+    public long getAsLong() {
+        if (!violations.isEmpty()) {
+            throw ViolatedException.of(violations);
+        }
+        return value;
+    }
+
+    /**
+     * If the result is successful returns the value, otherwise returns the default value.
+     *
+     * @param defaultValue the default value
+     * @return the value if the result is successful or default value if violated
+     */
+    public long getOrElse(long defaultValue) {
+        if (!violations.isEmpty()) {
+            return defaultValue;
+        }
+        return value;
+    }
+
+    /**
+     * Returns a sequential {@link LongStream} containing the value if this result is
+     * successful. Otherwise, returns an empty stream.
+     *
+     * @return a stream containing the value if this result is successful; otherwise an empty stream
+     */
+    public LongStream stream() {
+        return violations.isEmpty()
+                ? LongStream.of(value)
+                : LongStream.empty();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (!(obj instanceof LongResult other)) {
+            return false;
+        }
+
+        return value == other.value
+                && violations.equals(other.violations);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 + Long.hashCode(value)) + violations.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toString("LongResult", String.valueOf(value));
+    }
+}
@@ -0,0 +1,161 @@
+package supernova.functional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+
+/**
+ * Everything {@link IntResult}, {@link LongResult} and {@link DoubleResult} share besides their value: the
+ * violations and warnings, the checks on them and the callbacks.
+ *
+ * @param <R> the type of the result
+ * @since 1.1.1
+ */
+abstract sealed class PrimitiveResult<R extends PrimitiveResult<R>> permits IntResult, LongResult, DoubleResult {
+
+    final List<Violation> violations;
+    final List<Warning> warnings;
+
+    /**
+     * Index of the violation codes, built on the first lookup.
+     */
+    private volatile CodeIndex codeIndex;
+
+    PrimitiveResult(List<Violation> violations, List<Warning> warnings) {
+        this.violations = violations;
+        this.warnings = warnings;
+    }
+
+    /**
+     * Copies the violations of a violated result.
+     *
+     * @throws IllegalArgumentException if there is no violation
+     */
+    static List<Violation> requireViolations(List<Violation> violations) {
+        if (violations == null || violations.isEmpty()) {
+            throw new IllegalArgumentException("A violated result requires at least one violation");
+        }
+        return List.copyOf(violations);
+    }
+
+    /**
+     * Checks if the result is successful.
+     *
+     * @return {@code true} if the result contains no violations.
+     */
+    public boolean isSuccessful() {
+        return violations.isEmpty();
+    }
+
+    /**
+     * Checks if the result is failed or violated.
+     *
+     * @return {@code true} if the result contains violations.
+     */
+    public boolean isViolated() {
+        return !violations.isEmpty();
+    }
+
+    /**
+     * Checks if the result have warnings.
+     *
+     * @return {@code true} if the result contains warnings.
+     */
+    public boolean hasWarning() {
+        return !warnings.isEmpty();
+    }
+
+    /**
+     * Checks if the result has violation specified by the violation code.
+     *
+     * @param code the violation code
+     * @return {@code true} if there is a violation specified by the code
+     */
+    public boolean containsViolation(String code) {
+        return !violations.isEmpty() && codeIndex().contains(code);
+    }
+
+    /**
+     * Checks if the result has violation specified by the interned violation code, in constant time if the
+     * codes of the violations are registered.
+     *
+     * @param code the interned violation code
+     * @return {@code true} if there is a violation specified by the code
+     */
+    public boolean containsViolation(ViolationCode code) {
+        return !violations.isEmpty() && codeIndex().contains(code);
+    }
+
+    private CodeIndex codeIndex() {
+        CodeIndex index = codeIndex;
+        if (index == null) {
+            index = codeIndex = CodeIndex.of(violations);
+        }
+        return index;
+    }
+
+    /**
+     * If result is violated then performs the given action with the violation, otherwise
+     * perform nothing.
+     */
+    public R whenViolated(Consumer<Collection<Violation>> action) {
+        if (!violations.isEmpty()) {
+            action.accept(violations);
+        }
+        return self();
+    }
+
+    /**
+     * If result have warning then performs the given action with the warnings, otherwise
+     * perform nothing.
+     */
+    public R whenWarning(Consumer<Collection<Warning>> action) {
+        if (!warnings.isEmpty()) {
+            action.accept(warnings);
+        }
+        return self();
+    }
+
+    /**
+     * Gets a collection of violations.
+     *
+     * @return unmodifiable collection of violations
+     */
+    public List<Violation> violations() {
+        return violations;
+    }
+
+    /**
+     * Gets a collection of warnings.
+     *
+     * @return unmodifiable collection of warnings
+     */
+    public List<Warning> warnings() {
+        return warnings;
+    }
+
+    @SuppressWarnings("unchecked")
+    private R self() {
+        return (R) this;
+    }
+
+    /**
+     * Formats the result as {@code Name[value=...]} or {@code Name[violations=...]}, followed by the warnings.
+     */
+    final String toString(String name, String value) {
+        StringJoiner joiner = new StringJoiner(", ", name + "[", "]");
+
+        if (violations.isEmpty()) {
+            joiner.add("value=" + value);
+        } else {
+            joiner.add("violations=" + violations);
+        }
+
+        if (!warnings.isEmpty()) {
+            joiner.add("warnings=" + warnings);
+        }
+
+        return joiner.toString();
+    }
+}
@@ -2,6 +2,8 @@ package supernova.functional;
 
 import java.util.*;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 /**
@@ -19,69 +21,171 @@ import java.util.stream.Stream;
  * <p>Violation represent as error and can contain any type of object such as string, integer, custom
  * object, etc.</p>
  *
+ * <p>A result is either a {@link Success} or a {@link Violated}. Successful results of common values such as
+ * {@code null}, {@link Boolean#TRUE}, {@link Boolean#FALSE} and the shared empty collections are cached and
+ * creating them does not allocate.</p>
+ *
  * @param <T> the type of the contained value.
  * @author Izhar Atharzi
  * @since 1.0.0
  */
-public class Result<T> {
+public abstract sealed class Result<T> permits Success, Violated {
 
     /**
      * Common instance for empty violation collection.
      */
-    private static final List<Violation> EMPTY_VIOLATIONS = Collections.emptyList();
+    static final List<Violation> EMPTY_VIOLATIONS = Collections.emptyList();
 
     /**
      * Common instance for empty warning collection.
      */
-    private static final List<Warning> EMPTY_WARNINGS = Collections.emptyList();
+    static final List<Warning> EMPTY_WARNINGS = Collections.emptyList();
 
     /**
-     * Common instance for {@code successful()}.
+     * Common instance for {@code successful()} and {@code successful(null)}.
      */
-    private static final Result<Void> EMPTY_SUCCESSFUL = new Result<>(null, EMPTY_VIOLATIONS, EMPTY_WARNINGS);
+    private static final Result<?> EMPTY_SUCCESSFUL = new Success<>(null, EMPTY_WARNINGS);
 
-    /**
-     * Nullable value which does not trigger anything in result.
-     */
-    private final T value;
+    private static final Result<Boolean> TRUE_SUCCESSFUL = new Success<>(Boolean.TRUE, EMPTY_WARNINGS);
+    private static final Result<Boolean> FALSE_SUCCESSFUL = new Success<>(Boolean.FALSE, EMPTY_WARNINGS);
+
+    private static final Result<?> EMPTY_LIST_SUCCESSFUL = new Success<>(List.of(), EMPTY_WARNINGS);
+    private static final Result<?> EMPTY_SET_SUCCESSFUL = new Success<>(Set.of(), EMPTY_WARNINGS);
+    private static final Result<?> EMPTY_MAP_SUCCESSFUL = new Success<>(Map.of(), EMPTY_WARNINGS);
+    private static final Result<?> COLLECTIONS_EMPTY_LIST_SUCCESSFUL =
+            new Success<>(Collections.emptyList(), EMPTY_WARNINGS);
+    private static final Result<?> COLLECTIONS_EMPTY_SET_SUCCESSFUL =
+            new Success<>(Collections.emptySet(), EMPTY_WARNINGS);
+    private static final Result<?> COLLECTIONS_EMPTY_MAP_SUCCESSFUL =
+            new Success<>(Collections.emptyMap(), EMPTY_WARNINGS);
+    private static final Result<?> EMPTY_OPTIONAL_SUCCESSFUL = new Success<>(Optional.empty(), EMPTY_WARNINGS);
 
     /**
-     * Collection of violations; if empty, state as successful.
+     * Only {@link Success} and {@link Violated} extend a result.
      */
-    private final List<Violation> violations;
+    Result() {
+    }
 
     /**
-     * Collections of warnings
+     * Returns the cached successful result for the value, if there is one.
+     *
+     * <p>Only the shared immutable instances are matched by identity, so a cached result never
+     * replaces a value the caller could still mutate.</p>
+     *
+     * @param value the value of the result
+     * @return the cached result or {@code null} if the value is not cached
      */
-    private final List<Warning> warnings;
+    @SuppressWarnings("unchecked")
+    private static <T> Result<T> cached(T value) {
+        if (value == null) {
+            return (Result<T>) EMPTY_SUCCESSFUL;
+        }
+
+        if (value instanceof Boolean) {
+            if (value == Boolean.TRUE) {
+                return (Result<T>) TRUE_SUCCESSFUL;
+            }
+            if (value == Boolean.FALSE) {
+                return (Result<T>) FALSE_SUCCESSFUL;
+            }
+            return null;
+        }
+
+        if (value instanceof Collection<?> || value instanceof Map<?, ?> || value instanceof Optional<?>) {
+            Result<?> result;
+
+            if (value == EMPTY_LIST_SUCCESSFUL.value()) {
+                result = EMPTY_LIST_SUCCESSFUL;
+            } else if (value == EMPTY_SET_SUCCESSFUL.value()) {
+                result = EMPTY_SET_SUCCESSFUL;
+            } else if (value == EMPTY_MAP_SUCCESSFUL.value()) {
+                result = EMPTY_MAP_SUCCESSFUL;
+            } else if (value == COLLECTIONS_EMPTY_LIST_SUCCESSFUL.value()) {
+                result = COLLECTIONS_EMPTY_LIST_SUCCESSFUL;
+            } else if (value == COLLECTIONS_EMPTY_SET_SUCCESSFUL.value()) {
+                result = COLLECTIONS_EMPTY_SET_SUCCESSFUL;
+            } else if (value == COLLECTIONS_EMPTY_MAP_SUCCESSFUL.value()) {
+                result = COLLECTIONS_EMPTY_MAP_SUCCESSFUL;
+            } else if (value == EMPTY_OPTIONAL_SUCCESSFUL.value()) {
+                result = EMPTY_OPTIONAL_SUCCESSFUL;
+            } else {
+                result = null;
+            }
+
+            return (Result<T>) result;
+        }
+
+        return null;
+    }
 
     /**
-     * A common helper for creating a singleton list.
+     * Creates a result from lists that are already immutable and owned by the result.
      *
-     * @param element the instance of the element
-     * @return singleton list
-     * @param <E> the type of the element
+     * <p>Only for callers within the package which guarantee that nobody modifies the lists afterward;
+     * the lists are not copied.</p>
+     *
+     * @param value the value of the result
+     * @param violations immutable list of violations; if null, it is treated as an empty collection.
+     * @param warnings immutable list of warnings; if null, it is treated as an empty collection.
+     * @return a successful or violated result
+     * @param <T> the type of value
      */
-    private static <E> List<E> singleton(E element) {
-        return Collections.singletonList(element);
+    static <T> Result<T> trusted(T value, List<Violation> violations, List<Warning> warnings) {
+        if (violations != null && !violations.isEmpty()) {
+            return ResultMetrics.track(new Violated<>(value, violations, warnings == null || warnings.isEmpty()
+                    ? EMPTY_WARNINGS
+                    : warnings));
+        }
+
+        if (warnings == null || warnings.isEmpty()) {
+            return successful(value);
+        }
+
+        return ResultMetrics.track(new Success<>(value, warnings));
     }
 
     /**
-     * Constructs an instance with value and violations.
+     * Prepends the warnings of a previous step to the result of the next step.
      *
-     * @param value the value of the result
-     * @param violations collection of violations; if null, it is treated as an empty collection.
+     * @param warnings warnings collected before the result was created
+     * @param result the result of the next step
+     * @return the result itself if there is no warning to prepend
+     * @param <T> the type of value
      */
-    private Result(T value, List<Violation> violations, List<Warning> warnings) {
-        this.value = value;
+    static <T> Result<T> withWarnings(List<Warning> warnings, Result<T> result) {
+        if (warnings.isEmpty()) {
+            return result;
+        }
 
-        this.violations = violations == null || violations.isEmpty()
-                ? EMPTY_VIOLATIONS
-                : List.copyOf(violations);
+        List<Warning> next = result.warnings();
+        List<Warning> merged;
+
+        if (next.isEmpty()) {
+            merged = warnings;
+        } else {
+            Warning[] array = new Warning[warnings.size() + next.size()];
+            int i = 0;
+            for (Warning warning : warnings) {
+                array[i++] = warning;
+            }
+            for (Warning warning : next) {
+                array[i++] = warning;
+            }
+            merged = List.of(array);
+        }
 
-        this.warnings = warnings == null || warnings.isEmpty()
-                ? EMPTY_WARNINGS
-                : List.copyOf(warnings);
+        return ResultMetrics.track(result instanceof Violated<T> violated
+                ? new Violated<>(violated.value(), violated.violations(), merged)
+                : new Success<>(result.value(), merged));
+    }
+
+    /**
+     * Defensive copy of the caller's list.
+     */
+    private static <E> List<E> copy(List<E> list) {
+        return list == null || list.isEmpty()
+                ? Collections.emptyList()
+                : List.copyOf(list);
     }
 
     /**
@@ -102,7 +206,8 @@ public class Result<T> {
      * @param <T> the type of value
      */
     public static <T> Result<T> successful(T value) {
-        return new Result<>(value, EMPTY_VIOLATIONS, EMPTY_WARNINGS);
+        Result<T> cached = cached(value);
+        return ResultMetrics.track(cached != null ? cached : new Success<>(value, EMPTY_WARNINGS));
     }
 
     /**
@@ -112,9 +217,10 @@ public class Result<T> {
      * @param warning the instance of the warning
      * @return a successful {@link Result} with a value and a warning
      * @param <T> the type of value
+     * @throws NullPointerException if the warning is {@code null}
      */
     public static <T> Result<T> successful(T value, Warning warning) {
-        return new Result<>(value, EMPTY_VIOLATIONS, singleton(warning));
+        return ResultMetrics.track(new Success<>(value, List.of(Objects.requireNonNull(warning, "warning"))));
     }
 
     /**
@@ -126,7 +232,7 @@ public class Result<T> {
      * @param <T> the type of value
      */
     public static <T> Result<T> successful(T value, Warning... warnings) {
-        return new Result<>(value, EMPTY_VIOLATIONS, List.of(warnings));
+        return trusted(value, EMPTY_VIOLATIONS, List.of(warnings));
     }
 
     /**
@@ -138,7 +244,7 @@ public class Result<T> {
      * @param <T> the type of value
      */
     public static <T> Result<T> successful(T value, List<Warning> warnings) {
-        return new Result<>(value, EMPTY_VIOLATIONS, warnings);
+        return trusted(value, EMPTY_VIOLATIONS, copy(warnings));
     }
 
     /**
@@ -146,8 +252,9 @@ public class Result<T> {
      *
      * @return a successful {@link Result} for void type
      */
+    @SuppressWarnings("unchecked")
     public static Result<Void> successful() {
-        return EMPTY_SUCCESSFUL;
+        return ResultMetrics.track((Result<Void>) EMPTY_SUCCESSFUL);
     }
 
     /**
@@ -155,9 +262,10 @@ public class Result<T> {
      *
      * @param warning the instance of the warning
      * @return a successful {@link Result}
+     * @throws NullPointerException if the warning is {@code null}
      */
     public static Result<Void> successful(Warning warning) {
-        return new Result<>(null, EMPTY_VIOLATIONS, singleton(warning));
+        return ResultMetrics.track(new Success<>(null, List.of(Objects.requireNonNull(warning, "warning"))));
     }
 
     /**
@@ -167,7 +275,7 @@ public class Result<T> {
      * @return a successful {@link Result}
      */
     public static Result<Void> successful(Warning... warnings) {
-        return new Result<>(null, EMPTY_VIOLATIONS, List.of(warnings));
+        return trusted(null, EMPTY_VIOLATIONS, List.of(warnings));
     }
 
     /**
@@ -177,7 +285,7 @@ public class Result<T> {
      * @return a successful {@link Result}
      */
     public static Result<Void> successful(List<Warning> warnings) {
-        return new Result<>(null, EMPTY_VIOLATIONS, warnings);
+        return trusted(null, EMPTY_VIOLATIONS, copy(warnings));
     }
 
     /**
@@ -188,11 +296,7 @@ public class Result<T> {
      * @param <T> the type of value
      */
     public static <T> Result<T> violated(List<Violation> violations) {
-        return new Result<>(
-                null,
-                violations,
-                EMPTY_WARNINGS
-        );
+        return trusted(null, copy(violations), EMPTY_WARNINGS);
     }
 
     /**
@@ -203,7 +307,7 @@ public class Result<T> {
      * @param <T> the type of value
      */
     public static <T> Result<T> violated(Violation... violations) {
-        return violated(List.of(violations));
+        return trusted(null, List.of(violations), EMPTY_WARNINGS);
     }
 
     /**
@@ -212,35 +316,94 @@ public class Result<T> {
      * @param violation a violation
      * @return violated {@link Result} with single violation.
      * @param <T> the type of value
+     * @throws NullPointerException if the violation is {@code null}
      */
     public static <T> Result<T> violated(Violation violation) {
-        return violated(singleton(violation));
+        return ResultMetrics.track(new Violated<>(null, List.of(Objects.requireNonNull(violation, "violation")),
+                EMPTY_WARNINGS));
     }
 
     /**
      * Creates a result with all the params.
      */
     public static <T> Result<T> of(T value, List<Violation> violations, List<Warning> warnings) {
-        return new Result<>(value, violations, warnings);
+        return trusted(value, copy(violations), copy(warnings));
     }
 
+    /**
+     * Aggregates results into a result of all their values, accumulating the violations and warnings of
+     * every result.
+     *
+     * <p>The aggregated result is violated if any of the results is violated; it then contains the violations
+     * of every violated result. Runs in linear time; for streams, see {@link ResultCollectors#collectAll()}.</p>
+     *
+     * @param results the results to aggregate
+     * @return a result of the values in iteration order
+     * @param <T> the type of value
+     */
+    public static <T> Result<List<T>> collectAll(Collection<? extends Result<? extends T>> results) {
+        return ResultCollectors.aggregate(results, false);
+    }
+
+    /**
+     * Aggregates results into a result of all their values, stopping at the first violated result.
+     *
+     * <p>The aggregated result is violated if any of the results is violated; it then contains the violations
+     * of the first violated result and the warnings of the results up to and including it. For streams, see
+     * {@link ResultCollectors#failFast()}.</p>
+     *
+     * @param results the results to aggregate
+     * @return a result of the values in iteration order
+     * @param <T> the type of value
+     */
+    public static <T> Result<List<T>> sequence(Collection<? extends Result<? extends T>> results) {
+        return ResultCollectors.aggregate(results, true);
+    }
+
+    /**
+     * Applies the function to every element and aggregates the results as {@link #sequence(Collection)} does.
+     * The function is not applied to the elements after the first violated result.
+     *
+     * @param elements the elements
+     * @param mapper the function which produces a result for an element
+     * @return a result of the values in iteration order
+     * @param <A> the type of elements
+     * @param <T> the type of value
+     */
+    public static <A, T> Result<List<T>> traverse(Iterable<? extends A> elements,
+                                                  Function<? super A, ? extends Result<? extends T>> mapper) {
+        ResultCollectors.Aggregation<T> aggregation = new ResultCollectors.Aggregation<>(true);
+
+        for (A element : elements) {
+            aggregation.add(mapper.apply(element));
+            if (aggregation.violated()) {
+                break;
+            }
+        }
+
+        return aggregation.toResult();
+    }
+
+    /**
+     * Gets the value regardless of the state of the result.
+     *
+     * @return the nullable value
+     */
+    abstract T value();
+
     /**
      * Checks if the result is successful.
      *
      * @return {@code true} if the result contains no violations.
      */
-    public boolean isSuccessful() {
-        return violations.isEmpty();
-    }
+    public abstract boolean isSuccessful();
 
     /**
      * Checks if the result is failed or violated.
      *
      * @return {@code true} if the result contains violations.
      */
-    public boolean isViolated() {
-        return !violations.isEmpty();
-    }
+    public abstract boolean isViolated();
 
     /**
      * Checks if the result have warnings.
@@ -248,7 +411,7 @@ public class Result<T> {
      * @return {@code true} if the result contains warnings.
      */
     public boolean hasWarning() {
-        return !warnings.isEmpty();
+        return !warnings().isEmpty();
     }
 
     /**
@@ -257,40 +420,36 @@ public class Result<T> {
      * @param code the violation code
      * @return {@code true} if there is a violation specified by the code
      */
-    public boolean containsViolation(String code) {
-        return violations.stream().anyMatch(violation ->
-                violation.getCode().equals(code));
-    }
+    public abstract boolean containsViolation(String code);
+
+    /**
+     * Checks if the result has violation specified by the interned violation code, in constant time if the
+     * codes of the violations are registered.
+     *
+     * @param code the interned violation code
+     * @return {@code true} if there is a violation specified by the code
+     */
+    public abstract boolean containsViolation(ViolationCode code);
 
     /**
      * If result is successful then performs the given action with the reference, otherwise
      * perform nothing.
      */
-    public Result<T> whenSuccessful(Consumer<? super T> action) {
-        if (violations.isEmpty()) {
-            action.accept(value);
-        }
-
-        return this;
-    }
+    public abstract Result<T> whenSuccessful(Consumer<? super T> action);
 
     /**
      * If result is violated then performs the given action with the violation, otherwise
      * perform nothing.
      */
-    public Result<T> whenViolated(Consumer<Collection<Violation>> action) {
-        if (!violations.isEmpty()) {
-            action.accept(violations);
-        }
-
-        return this;
-    }
+    public abstract Result<T> whenViolated(Consumer<Collection<Violation>> action);
 
     /**
      * If result have warning then performs the given action with the warnings, otherwise
      * perform nothing.
      */
     public Result<T> whenWarning(Consumer<Collection<Warning>> action) {
+        List<Warning> warnings = warnings();
+
         if (!warnings.isEmpty()) {
             action.accept(warnings);
         }
@@ -304,12 +463,7 @@ public class Result<T> {
      * @throws ViolatedException if the result is violated
      * @return the instance of the value
      */
-    public T get() {
-        if (!violations.isEmpty()) {
-            throw new ViolatedException(violations);
-        }
-        return value;
-    }
+    public abstract T get();
 
     /**
      * If the result is successful returns the value, otherwise returns the default value.
@@ -317,11 +471,81 @@ public class Result<T> {
      * @param defaultValue the instance of the default value
      * @return the value if the result is successful or default value if violated
      */
-    public T getOrElse(T defaultValue) {
-        if (!violations.isEmpty()) {
-            return defaultValue;
-        }
-        return value;
+    public abstract T getOrElse(T defaultValue);
+
+    /**
+     * If the result is successful, transforms its value; otherwise returns the violations as a result of the
+     * new type. Warnings are kept.
+     *
+     * <p>A violated result without value passes through without allocating.</p>
+     *
+     * @param mapper the function applied to the value
+     * @return the transformed result
+     * @param <U> the type of the new value
+     */
+    public abstract <U> Result<U> map(Function<? super T, ? extends U> mapper);
+
+    /**
+     * If the result is successful, returns the result of the function applied to its value; otherwise
+     * returns the violations as a result of the new type. Warnings of this result are kept in front of the
+     * warnings of the returned result.
+     *
+     * @param mapper the function which produces the next result
+     * @return the next result
+     * @param <U> the type of the new value
+     */
+    public abstract <U> Result<U> flatMap(Function<? super T, Result<U>> mapper);
+
+    /**
+     * If the result is successful and its value does not match the predicate, returns a violated result with
+     * the given violation. Otherwise, returns this result.
+     *
+     * @param predicate the condition the value has to satisfy
+     * @param violation the violation if the condition is not satisfied
+     * @return this result or a violated result
+     */
+    public abstract Result<T> ensure(Predicate<? super T> predicate, Violation violation);
+
+    /**
+     * If the result is successful and its value does not match the predicate, returns a violated result with
+     * the violation created from the value. Otherwise, returns this result.
+     *
+     * @param predicate the condition the value has to satisfy
+     * @param violation the function which creates the violation if the condition is not satisfied
+     * @return this result or a violated result
+     */
+    public abstract Result<T> ensure(Predicate<? super T> predicate, Function<? super T, Violation> violation);
+
+    /**
+     * If the result is violated, returns a successful result with the value created from the violations.
+     * Otherwise, returns this result. Warnings are kept.
+     *
+     * @param recovery the function which creates the value from the violations
+     * @return a successful result
+     */
+    public abstract Result<T> recover(Function<? super List<Violation>, ? extends T> recovery);
+
+    /**
+     * Reduces the result into a single value by applying one of the functions.
+     *
+     * @param onSuccessful the function applied to the value if the result is successful
+     * @param onViolated the function applied to the violations if the result is violated
+     * @return the value returned by the applied function
+     * @param <R> the type of the reduced value
+     */
+    public abstract <R> R fold(Function<? super T, ? extends R> onSuccessful,
+                               Function<? super List<Violation>, ? extends R> onViolated);
+
+    /**
+     * Runs the result through a {@link ResultPipeline}. All the steps are fused, so only the final result is
+     * allocated.
+     *
+     * @param pipeline the pipeline
+     * @return the result of the pipeline
+     * @param <R> the type of the new value
+     */
+    public <R> Result<R> then(ResultPipeline<T, R> pipeline) {
+        return pipeline.run(this);
     }
 
     /**
@@ -334,28 +558,45 @@ public class Result<T> {
      * @return a stream containing the value if this result is successful and
      *         non-{@code null}; otherwise an empty stream
      */
-    public Stream<T> stream() {
-        return violations.isEmpty()
-                ? Stream.ofNullable(value)
-                : Stream.empty();
-    }
+    public abstract Stream<T> stream();
 
     /**
      * Gets a collection of violations.
      *
      * @return unmodifiable collection of violations
      */
-    public List<Violation> violations() {
-        return violations;
-    }
+    public abstract List<Violation> violations();
 
     /**
      * Gets a collection of warnings.
      *
      * @return unmodifiable collection of warnings
      */
-    public List<Warning> warnings() {
-        return warnings;
+    public abstract List<Warning> warnings();
+
+    /**
+     * Counts the occurrences of a warning in the result.
+     *
+     * <p>A {@link ResultBuilder#deduplicate(int) deduplicated} result keeps equal warnings once, with the number of
+     * their occurrences; the count is kept as long as the warnings are passed on as they are, e.g. by
+     * {@link #map(Function)}. Otherwise the equal warnings are counted.</p>
+     *
+     * @param warning the warning
+     * @return the number of occurrences, {@code 0} if the result has no such warning
+     */
+    public long occurrences(Warning warning) {
+        List<Warning> warnings = warnings();
+        if (warnings instanceof WarningCounts counts) {
+            return counts.occurrences(warning);
+        }
+
+        long occurrences = 0;
+        for (Warning each : warnings) {
+            if (each.equals(warning)) {
+                occurrences++;
+            }
+        }
+        return occurrences;
     }
 
     @Override
@@ -368,31 +609,32 @@ public class Result<T> {
             return false;
         }
 
-        return Objects.equals(value, other.value)
-                && Objects.equals(violations, other.violations);
+        return Objects.equals(value(), other.value())
+                && Objects.equals(violations(), other.violations());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(value, violations);
+        return 31 * (31 + Objects.hashCode(value())) + violations().hashCode();
     }
 
     @Override
     public String toString() {
         StringJoiner joiner = new StringJoiner(", ", "Result[", "]");
+        T value = value();
 
         if (value != null) {
             joiner.add("value=" + value);
         }
 
-        if (!violations.isEmpty()) {
-            joiner.add("violations=" + violations);
+        if (isViolated()) {
+            joiner.add("violations=" + violations());
         }
 
-        if (!warnings.isEmpty()) {
-            joiner.add("warnings=" + warnings);
+        if (hasWarning()) {
+            joiner.add("warnings=" + warnings());
         }
 
         return joiner.toString();
     }
-}
\ No newline at end of file
+}
@@ -1,50 +1,191 @@
 package supernova.functional;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Object represent builder for the {@link Result}.
+ *
+ * <p>The lists of violations and warnings are only allocated once the first violation or warning arrives, and
+ * {@link #build()} hands them over to the result without copying; a list which was handed over is only copied
+ * if the builder changes it afterward. A builder can be reused after {@link #reset()}, e.g. one builder per
+ * thread in a batch validator:</p>
+ *
+ * <pre>{@code
+ * ResultBuilder<Record> builder = Result.builder();
+ *
+ * for (Record record : records) {
+ *     builder.reset().value(record);
+ *     // ...
+ *     results.add(builder.build());
+ * }
+ * }</pre>
+ *
+ * <p>A builder which aggregates many items into one result can {@link #deduplicate(int) deduplicate} the
+ * violations and warnings instead, which bounds its memory regardless of the number of items.</p>
+ *
+ * <p>Violations and warnings must not be {@code null}; adding one throws {@link NullPointerException}
+ * right away. A builder is not thread-safe.</p>
  */
 public class ResultBuilder<T> {
 
-    private final List<Violation> violations;
-    private final List<Warning> warnings;
+    private static final int INITIAL_CAPACITY = 4;
+
+    /**
+     * {@code null} until the first violation.
+     */
+    private List<Violation> violations;
+
+    /**
+     * {@code null} until the first warning.
+     */
+    private List<Warning> warnings;
+
+    /**
+     * Whether the lists were handed over to a result by {@link #build()}, so they must be copied before they
+     * are changed.
+     */
+    private boolean violationsShared;
+    private boolean warningsShared;
 
     private T value;
 
+    /**
+     * Occurrences of distinct violations and warnings, {@code null} unless deduplicating.
+     */
+    private Occurrences<Violation> violationOccurrences;
+    private Occurrences<Warning> warningOccurrences;
+
     ResultBuilder() {
-        this.violations = new ArrayList<>();
-        this.warnings = new ArrayList<>();
+    }
+
+    /**
+     * Switches to deduplicating accumulation: equal violations and warnings are kept once and counted, and at
+     * most {@code maxDistinct} distinct violations and as many distinct warnings are kept.
+     *
+     * <p>Warnings are equal if their messages are equal; violations are equal if their codes and messages are
+     * equal, and the object of the first occurrence is kept. Messages are compared without rendering lazy ones:
+     * a lazy message is only equal to one with the same supplier, or with the same template and arguments. In
+     * the built result, every entry keeps its message and has the number of its occurrences, see
+     * {@link Violation#getOccurrences()} and {@link Result#occurrences(Warning)}. Occurrences of further
+     * distinct entries are dropped and reported in a summary warning.</p>
+     *
+     * <p>Violations and warnings added before are deduplicated as well. The mode survives {@link #reset()}.</p>
+     *
+     * @param maxDistinct the maximum number of distinct violations, and of distinct warnings
+     * @return this builder
+     */
+    public ResultBuilder<T> deduplicate(int maxDistinct) {
+        if (maxDistinct < 1) {
+            throw new IllegalArgumentException("Maximum of distinct entries must be positive: " + maxDistinct);
+        }
+
+        if (violationOccurrences != null) {
+            violationOccurrences.maxDistinct = maxDistinct;
+            warningOccurrences.maxDistinct = maxDistinct;
+            return this;
+        }
+
+        violationOccurrences = new Occurrences<>(maxDistinct);
+        warningOccurrences = new Occurrences<>(maxDistinct);
+
+        if (violations != null) {
+            violations.forEach(this::violate);
+            violations = null;
+            violationsShared = false;
+        }
+
+        if (warnings != null) {
+            warnings.forEach(this::warn);
+            warnings = null;
+            warningsShared = false;
+        }
+
+        return this;
+    }
+
+    private List<Violation> violationList() {
+        List<Violation> list = violations;
+        if (list == null) {
+            list = violations = new ArrayList<>(INITIAL_CAPACITY);
+        } else if (violationsShared) {
+            list = violations = new ArrayList<>(list);
+            violationsShared = false;
+        }
+        return list;
+    }
+
+    private List<Warning> warningList() {
+        List<Warning> list = warnings;
+        if (list == null) {
+            list = warnings = new ArrayList<>(INITIAL_CAPACITY);
+        } else if (warningsShared) {
+            list = warnings = new ArrayList<>(list);
+            warningsShared = false;
+        }
+        return list;
     }
 
     public ResultBuilder<T> warn(Warning warning) {
-        this.warnings.add(warning);
+        Objects.requireNonNull(warning, "warning");
+
+        if (warningOccurrences != null) {
+            warningOccurrences.add(warning, warning, 1);
+        } else {
+            warningList().add(warning);
+        }
         return this;
     }
 
     public ResultBuilder<T> warn(Warning... warnings) {
-        this.warnings.addAll(List.of(warnings));
+        for (Warning warning : warnings) {
+            warn(warning);
+        }
         return this;
     }
 
     public ResultBuilder<T> warn(List<Warning> warnings) {
-        this.warnings.addAll(warnings);
+        if (warningOccurrences != null && warnings instanceof WarningCounts counts) {
+            // the warnings of a deduplicated result, keep their counts
+            for (int i = 0; i < counts.size(); i++) {
+                warningOccurrences.add(counts.get(i), counts.get(i), counts.count(i));
+            }
+            return this;
+        }
+
+        for (Warning warning : warnings) {
+            warn(warning);
+        }
         return this;
     }
 
     public ResultBuilder<T> violate(Violation violation) {
-        this.violations.add(violation);
+        Objects.requireNonNull(violation, "violation");
+
+        if (violationOccurrences != null) {
+            violationOccurrences.add(new ViolationKey(violation.getCode(), violation.messageKey()), violation,
+                    violation.getOccurrences());
+        } else {
+            violationList().add(violation);
+        }
         return this;
     }
 
     public ResultBuilder<T> violate(Violation... violations) {
-        this.violations.addAll(List.of(violations));
+        for (Violation violation : violations) {
+            violate(violation);
+        }
         return this;
     }
 
     public ResultBuilder<T> violate(List<Violation> violations) {
-        this.violations.addAll(violations);
+        for (Violation violation : violations) {
+            violate(violation);
+        }
         return this;
     }
 
@@ -61,7 +202,152 @@ public class ResultBuilder<T> {
         return this;
     }
 
+    /**
+     * Clears the value, violations and warnings so the builder can be used for another result.
+     *
+     * <p>Lists which were not handed over to a result are cleared and reused; lists which were are released to
+     * the result.</p>
+     *
+     * @return this builder
+     */
+    public ResultBuilder<T> reset() {
+        this.value = null;
+
+        if (violationsShared) {
+            violations = null;
+            violationsShared = false;
+        } else if (violations != null) {
+            violations.clear();
+        }
+
+        if (warningsShared) {
+            warnings = null;
+            warningsShared = false;
+        } else if (warnings != null) {
+            warnings.clear();
+        }
+
+        if (violationOccurrences != null) {
+            violationOccurrences.clear();
+            warningOccurrences.clear();
+        }
+
+        return this;
+    }
+
+    /**
+     * Builds the result.
+     *
+     * <p>The collected violations and warnings are handed over to the result without copying. The builder keeps
+     * its state, so building again returns an equal result, and copies a handed over list before it adds to it,
+     * so adding more violations or warnings never affects a built result.</p>
+     *
+     * @return the result
+     */
     public Result<T> build() {
-        return Result.of(value, violations, warnings);
+        if (violationOccurrences != null) {
+            return buildDeduplicated();
+        }
+
+        List<Violation> builtViolations = Result.EMPTY_VIOLATIONS;
+        List<Warning> builtWarnings = Result.EMPTY_WARNINGS;
+
+        if (violations != null && !violations.isEmpty()) {
+            builtViolations = Collections.unmodifiableList(violations);
+            violationsShared = true;
+        }
+
+        if (warnings != null && !warnings.isEmpty()) {
+            builtWarnings = Collections.unmodifiableList(warnings);
+            warningsShared = true;
+        }
+
+        return Result.trusted(value, builtViolations, builtWarnings);
+    }
+
+    private Result<T> buildDeduplicated() {
+        List<Violation> builtViolations = new ArrayList<>(violationOccurrences.entries.size());
+        int distinctWarnings = warningOccurrences.entries.size();
+        int summaries = (violationOccurrences.dropped != 0 ? 1 : 0) + (warningOccurrences.dropped != 0 ? 1 : 0);
+        Warning[] builtWarnings = new Warning[distinctWarnings + summaries];
+        long[] counts = new long[builtWarnings.length];
+        int i = 0;
+
+        for (Occurrence<Violation> occurrence : violationOccurrences.entries.values()) {
+            Violation violation = occurrence.first;
+            builtViolations.add(occurrence.count == violation.getOccurrences()
+                    ? violation
+                    : violation.withOccurrences(occurrence.count));
+        }
+
+        for (Occurrence<Warning> occurrence : warningOccurrences.entries.values()) {
+            builtWarnings[i] = occurrence.first;
+            counts[i++] = occurrence.count;
+        }
+
+        if (violationOccurrences.dropped != 0) {
+            builtWarnings[i] = Warning.of(violationOccurrences.dropped
+                    + " occurrences of further distinct violations were dropped");
+            counts[i++] = 1;
+        }
+
+        if (warningOccurrences.dropped != 0) {
+            builtWarnings[i] = Warning.of(warningOccurrences.dropped
+                    + " occurrences of further distinct warnings were dropped");
+            counts[i] = 1;
+        }
+
+        return Result.trusted(value,
+                builtViolations.isEmpty() ? Result.EMPTY_VIOLATIONS : Collections.unmodifiableList(builtViolations),
+                builtWarnings.length == 0 ? Result.EMPTY_WARNINGS : new WarningCounts(builtWarnings, counts));
+    }
+
+    private record ViolationKey(String code, Object message) {
+    }
+
+    /**
+     * Distinct entries in order of first occurrence, with the number of their occurrences.
+     */
+    private static final class Occurrences<E> {
+
+        private final Map<Object, Occurrence<E>> entries = new LinkedHashMap<>();
+        private int maxDistinct;
+
+        /**
+         * Number of occurrences of entries which did not fit.
+         */
+        private long dropped;
+
+        private Occurrences(int maxDistinct) {
+            this.maxDistinct = maxDistinct;
+        }
+
+        void add(Object key, E element, long count) {
+            Occurrence<E> occurrence = entries.get(key);
+
+            if (occurrence != null) {
+                occurrence.count += count;
+            } else if (entries.size() < maxDistinct) {
+                entries.put(key, new Occurrence<>(element, count));
+            } else {
+                dropped += count;
+            }
+        }
+
+        void clear() {
+            entries.clear();
+            dropped = 0;
+        }
+    }
+
+    private static final class Occurrence<E> {
+
+        private final E first;
+        private long count;
+
+        private Occurrence(E first, long count) {
+            this.first = first;
+            this.count = count;
+        }
     }
 }
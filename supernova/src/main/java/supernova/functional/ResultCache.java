@@ -0,0 +1,379 @@
+package supernova.functional;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Memoizes a function which returns {@link Result}.
+ *
+ * <p>Successful and violated results are cached with separate time-to-live, so that violations work as a
+ * negative cache: e.g. a missing entitlement can be re-checked sooner than an existing one. A time-to-live of
+ * zero disables caching of that kind of result.</p>
+ *
+ * <p>The cache holds at most {@code maximumSize} results. When it is full, it evicts the least recently used
+ * of a small sample of the results, taken in turn around the cache, so the eviction order approximates least
+ * recently used. A hit only records the time of the access and takes no lock. Concurrent calls for the same
+ * key which miss the cache are coalesced: only the first one computes the result, the others wait for it. An
+ * exception thrown by the function is propagated to all of them and nothing is cached.</p>
+ *
+ * <p>The function must not get the key it computes from the same cache: on the computing thread this throws
+ * {@link IllegalStateException} instead of waiting forever, but a cycle through other threads deadlocks.</p>
+ *
+ * <pre>{@code
+ * ResultCache<UserId, Entitlement> entitlements = ResultCache.builder()
+ *         .maximumSize(10_000)
+ *         .successTtl(Duration.ofMinutes(5))
+ *         .violationTtl(Duration.ofSeconds(10))
+ *         .build(entitlementService::check);
+ *
+ * Result<Entitlement> entitlement = entitlements.get(userId);
+ * }</pre>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values of the results
+ * @since 1.1.1
+ */
+public final class ResultCache<K, V> implements Function<K, Result<V>> {
+
+    /**
+     * Number of results compared to pick one to evict.
+     */
+    private static final int EVICTION_SAMPLE = 8;
+
+    private final Function<? super K, Result<V>> function;
+    private final long maximumSize;
+    private final long successTtlNanos;
+    private final long violationTtlNanos;
+
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Position of the eviction sampling in {@link #entries}, guarded by {@link #evictionLock}.
+     */
+    private Iterator<Map.Entry<K, Entry<V>>> evictionHand;
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    /**
+     * Computations in progress, by key.
+     */
+    private final ConcurrentHashMap<K, Loading<V>> loading = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private ResultCache(Builder builder, Function<? super K, Result<V>> function) {
+        this.function = function;
+        this.maximumSize = builder.maximumSize;
+        this.successTtlNanos = builder.successTtl.toNanos();
+        this.violationTtlNanos = builder.violationTtl.toNanos();
+    }
+
+    /**
+     * Creates a {@link ResultCache} builder.
+     *
+     * @return a ResultCache builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the cached result of the key, or computes it.
+     *
+     * @param key the key
+     * @return the result of the function for the key
+     * @throws IllegalStateException if the function computing the key on this thread gets the key again
+     */
+    public Result<V> get(K key) {
+        Objects.requireNonNull(key, "key");
+
+        Result<V> cached = lookup(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        Loading<V> load = new Loading<>(new CompletableFuture<>(), Thread.currentThread());
+        Loading<V> running = loading.putIfAbsent(key, load);
+
+        if (running != null) {
+            if (running.thread == Thread.currentThread()) {
+                throw new IllegalStateException("Recursive computation of key " + key);
+            }
+            coalesced.increment();
+            return await(running.future);
+        }
+
+        CompletableFuture<Result<V>> future = load.future;
+
+        try {
+            // another thread may have stored the result between the lookup and the registration
+            Result<V> result = lookup(key);
+            if (result != null) {
+                hits.increment();
+            } else {
+                misses.increment();
+                result = Objects.requireNonNull(function.apply(key), "result");
+                store(key, result);
+            }
+
+            future.complete(result);
+            return result;
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, load);
+        }
+    }
+
+    /**
+     * Gets the cached result of the key, or computes it, same as {@link #get(Object)}.
+     */
+    @Override
+    public Result<V> apply(K key) {
+        return get(key);
+    }
+
+    /**
+     * Gets the cached result of the key, without computing it.
+     *
+     * @param key the key
+     * @return the cached result, or {@code null} if there is none
+     */
+    public Result<V> getIfPresent(K key) {
+        return lookup(Objects.requireNonNull(key, "key"));
+    }
+
+    /**
+     * Removes the cached result of the key. A computation in progress is not affected.
+     *
+     * @param key the key
+     */
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Removes all the cached results.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * Gets the number of cached results, including expired ones which were not removed yet.
+     *
+     * @return the number of cached results
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Takes a snapshot of the statistics of the cache.
+     *
+     * @return the statistics
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), coalesced.sum(), evictions.sum());
+    }
+
+    private Result<V> lookup(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+
+        long now = System.nanoTime();
+        if (entry.expiresAt - now <= 0) {
+            entries.remove(key, entry);
+            return null;
+        }
+
+        entry.accessedAt = now;
+        return entry.result;
+    }
+
+    private void store(K key, Result<V> result) {
+        long ttl = result.isSuccessful() ? successTtlNanos : violationTtlNanos;
+        if (ttl <= 0) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        entries.put(key, new Entry<>(result, now + ttl, now));
+
+        if (entries.mappingCount() > maximumSize) {
+            evictionLock.lock();
+            try {
+                while (entries.mappingCount() > maximumSize) {
+                    evictOne();
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Removes the least recently used of the next sampled results, or the first expired one.
+     */
+    private void evictOne() {
+        Map.Entry<K, Entry<V>> victim = null;
+        long now = System.nanoTime();
+
+        for (int i = 0; i < EVICTION_SAMPLE; i++) {
+            if (evictionHand == null || !evictionHand.hasNext()) {
+                evictionHand = entries.entrySet().iterator();
+                if (!evictionHand.hasNext()) {
+                    break;
+                }
+            }
+
+            Map.Entry<K, Entry<V>> candidate = evictionHand.next();
+            Entry<V> entry = candidate.getValue();
+
+            if (entry.expiresAt - now <= 0) {
+                entries.remove(candidate.getKey(), entry);
+                return;
+            }
+
+            if (victim == null || entry.accessedAt - victim.getValue().accessedAt < 0) {
+                victim = candidate;
+            }
+        }
+
+        if (victim != null && entries.remove(victim.getKey(), victim.getValue())) {
+            evictions.increment();
+        }
+    }
+
+    private static <V> Result<V> await(CompletableFuture<Result<V>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ResultCache[size=" + size() + ", " + stats() + ']';
+    }
+
+    private static final class Entry<V> {
+
+        private final Result<V> result;
+        private final long expiresAt;
+
+        /**
+         * Time of the last access; racing accesses may overwrite each other, which only affects eviction.
+         */
+        private volatile long accessedAt;
+
+        private Entry(Result<V> result, long expiresAt, long accessedAt) {
+            this.result = result;
+            this.expiresAt = expiresAt;
+            this.accessedAt = accessedAt;
+        }
+    }
+
+    private record Loading<V>(CompletableFuture<Result<V>> future, Thread thread) {
+    }
+
+    /**
+     * Statistics of a {@link ResultCache}.
+     *
+     * @param hits number of calls answered from the cache
+     * @param misses number of calls which computed the result
+     * @param coalesced number of calls which waited for the computation of another call
+     * @param evictions number of results evicted because the cache was full
+     */
+    public record Stats(long hits, long misses, long coalesced, long evictions) {
+    }
+
+    /**
+     * Builder of a {@link ResultCache}.
+     */
+    public static final class Builder {
+
+        private long maximumSize = 1024;
+        private Duration successTtl = Duration.ofMinutes(1);
+        private Duration violationTtl = Duration.ofSeconds(10);
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum number of cached results, 1024 by default.
+         *
+         * @param maximumSize the maximum number of results
+         * @return this builder
+         */
+        public Builder maximumSize(long maximumSize) {
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets how long successful results are cached, one minute by default.
+         *
+         * @param ttl the time-to-live, zero to not cache successful results
+         * @return this builder
+         */
+        public Builder successTtl(Duration ttl) {
+            this.successTtl = requireNonNegative(ttl);
+            return this;
+        }
+
+        /**
+         * Sets how long violated results are cached, ten seconds by default.
+         *
+         * @param ttl the time-to-live, zero to not cache violated results
+         * @return this builder
+         */
+        public Builder violationTtl(Duration ttl) {
+            this.violationTtl = requireNonNegative(ttl);
+            return this;
+        }
+
+        /**
+         * Builds a cache of the function.
+         *
+         * @param function the function which computes the results; it must not return {@code null}
+         * @return the cache
+         * @param <K> the type of the keys
+         * @param <V> the type of the values of the results
+         */
+        public <K, V> ResultCache<K, V> build(Function<? super K, Result<V>> function) {
+            return new ResultCache<>(this, Objects.requireNonNull(function, "function"));
+        }
+
+        private static Duration requireNonNegative(Duration ttl) {
+            if (ttl.isNegative()) {
+                throw new IllegalArgumentException("Time-to-live must not be negative: " + ttl);
+            }
+            return ttl;
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package supernova.functional;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * {@link Collector}s which aggregate many {@link Result}s into one.
+ *
+ * <p>The collectors merge violations and warnings in a structure that is concatenated in constant time, so
+ * collecting stays linear in the number of elements, and they support parallel streams. The order of values,
+ * violations and warnings follows the encounter order of the stream.</p>
+ *
+ * @since 1.1.1
+ */
+public final class ResultCollectors {
+
+    private ResultCollectors() {
+    }
+
+    /**
+     * Returns a collector which gathers the values of successful results into a list and accumulates the
+     * violations and warnings of all the results.
+     *
+     * <p>The collected result is violated if any of the results is violated; it then contains the violations of
+     * every violated result and no value.</p>
+     *
+     * @return the accumulating collector
+     * @param <T> the type of values
+     */
+    public static <T> Collector<Result<T>, ?, Result<List<T>>> collectAll() {
+        return collector(false);
+    }
+
+    /**
+     * Returns a collector which gathers the values of successful results into a list and stops at the first
+     * violated result in encounter order.
+     *
+     * <p>The collected result is violated if any of the results is violated; it then contains only the
+     * violations of the first violated result and the warnings of the results up to and including it. The
+     * remaining elements are still consumed by the stream but are ignored.</p>
+     *
+     * @return the fail-fast collector
+     * @param <T> the type of values
+     */
+    public static <T> Collector<Result<T>, ?, Result<List<T>>> failFast() {
+        return collector(true);
+    }
+
+    /**
+     * Returns a collector which splits the results in a single pass into the values of the successful results,
+     * the violations grouped by code and the warnings, and counts the results by outcome.
+     *
+     * <p>Unlike {@link #collectAll()}, the values of successful results are kept even if other results are
+     * violated.</p>
+     *
+     * @return the partitioning collector
+     * @param <T> the type of values
+     */
+    public static <T> Collector<Result<T>, ?, Partition<T>> partitioning() {
+        Supplier<Partitioning<T>> supplier = Partitioning::new;
+        BiConsumer<Partitioning<T>, Result<T>> accumulator = Partitioning::add;
+        BinaryOperator<Partitioning<T>> combiner = Partitioning::combine;
+        Function<Partitioning<T>, Partition<T>> finisher = Partitioning::toPartition;
+
+        return Collector.of(supplier, accumulator, combiner, finisher);
+    }
+
+    private static <T> Collector<Result<T>, ?, Result<List<T>>> collector(boolean failFast) {
+        Supplier<Aggregation<T>> supplier = () -> new Aggregation<>(failFast);
+        BiConsumer<Aggregation<T>, Result<T>> accumulator = Aggregation::add;
+        BinaryOperator<Aggregation<T>> combiner = Aggregation::combine;
+        Function<Aggregation<T>, Result<List<T>>> finisher = Aggregation::toResult;
+
+        return Collector.of(supplier, accumulator, combiner, finisher);
+    }
+
+    /**
+     * Aggregates the results of a collection, see {@link #collectAll()} and {@link #failFast()}.
+     */
+    static <T> Result<List<T>> aggregate(Iterable<? extends Result<? extends T>> results, boolean failFast) {
+        Aggregation<T> aggregation = new Aggregation<>(failFast);
+
+        for (Result<? extends T> result : results) {
+            aggregation.add(result);
+            if (failFast && aggregation.violated()) {
+                break;
+            }
+        }
+
+        return aggregation.toResult();
+    }
+
+    /**
+     * Mutable aggregation of results.
+     *
+     * <p>Once a violation is added, the values are discarded since the aggregated result has no value.</p>
+     */
+    static final class Aggregation<T> {
+
+        private final boolean failFast;
+
+        private Chain<T> values = new Chain<>();
+        private Chain<Violation> violations;
+        private Chain<Warning> warnings;
+
+        Aggregation(boolean failFast) {
+            this.failFast = failFast;
+        }
+
+        boolean violated() {
+            return violations != null;
+        }
+
+        void add(Result<? extends T> result) {
+            if (failFast && violations != null) {
+                return;
+            }
+
+            List<Warning> resultWarnings = result.warnings();
+            if (!resultWarnings.isEmpty()) {
+                if (warnings == null) {
+                    warnings = new Chain<>();
+                }
+                warnings.addAll(resultWarnings);
+            }
+
+            if (result instanceof Violated<? extends T> violated) {
+                if (violations == null) {
+                    violations = new Chain<>();
+                    values = null;
+                }
+                violations.addAll(violated.violations());
+            } else if (violations == null) {
+                values.add(result.value());
+            }
+        }
+
+        /**
+         * Appends the other aggregation, which comes after this one in encounter order.
+         */
+        Aggregation<T> combine(Aggregation<T> other) {
+            if (failFast && violations != null) {
+                return this;
+            }
+
+            warnings = concat(warnings, other.warnings);
+
+            if (other.violations != null) {
+                violations = concat(violations, other.violations);
+                values = null;
+            } else if (violations == null) {
+                values.concat(other.values);
+            }
+
+            return this;
+        }
+
+        Result<List<T>> toResult() {
+            List<Warning> warningList = warnings == null ? Result.EMPTY_WARNINGS : warnings.toList();
+
+            if (violations != null) {
+                return Result.trusted(null, violations.toList(), warningList);
+            }
+
+            return Result.trusted(values.toList(), Result.EMPTY_VIOLATIONS, warningList);
+        }
+
+        static <E> Chain<E> concat(Chain<E> left, Chain<E> right) {
+            if (left == null) {
+                return right;
+            }
+            return right == null ? left : left.concat(right);
+        }
+    }
+
+    /**
+     * Results split by {@link #partitioning()}.
+     *
+     * @param successes the values of the successful results, in encounter order
+     * @param violations the violations by code, codes in order of first occurrence
+     * @param warnings the warnings of all the results, in encounter order
+     * @param successful the number of successful results
+     * @param violated the number of violated results
+     * @param warned the number of results with at least one warning
+     * @param <T> the type of values
+     */
+    public record Partition<T>(List<T> successes, Map<String, List<Violation>> violations, List<Warning> warnings,
+                               long successful, long violated, long warned) {
+
+        /**
+         * Gets the number of all results.
+         *
+         * @return the number of successful and violated results
+         */
+        public long total() {
+            return successful + violated;
+        }
+    }
+
+    /**
+     * Mutable state of {@link #partitioning()}.
+     */
+    private static final class Partitioning<T> {
+
+        private Chain<T> successes = new Chain<>();
+        private LinkedHashMap<String, Chain<Violation>> violations;
+        private Chain<Warning> warnings;
+        private long successful;
+        private long violated;
+        private long warned;
+
+        void add(Result<T> result) {
+            List<Warning> resultWarnings = result.warnings();
+            if (!resultWarnings.isEmpty()) {
+                if (warnings == null) {
+                    warnings = new Chain<>();
+                }
+                warnings.addAll(resultWarnings);
+                warned++;
+            }
+
+            if (result instanceof Violated<T> violatedResult) {
+                if (violations == null) {
+                    violations = new LinkedHashMap<>();
+                }
+                for (Violation violation : violatedResult.violations()) {
+                    violations.computeIfAbsent(violation.getCode(), code -> new Chain<>()).add(violation);
+                }
+                violated++;
+            } else {
+                successes.add(result.value());
+                successful++;
+            }
+        }
+
+        /**
+         * Appends the other partitioning, which comes after this one in encounter order.
+         */
+        Partitioning<T> combine(Partitioning<T> other) {
+            successes.concat(other.successes);
+            warnings = Aggregation.concat(warnings, other.warnings);
+
+            if (violations == null) {
+                violations = other.violations;
+            } else if (other.violations != null) {
+                other.violations.forEach((code, chain) -> violations.merge(code, chain, Chain::concat));
+            }
+
+            successful += other.successful;
+            violated += other.violated;
+            warned += other.warned;
+            return this;
+        }
+
+        Partition<T> toPartition() {
+            Map<String, List<Violation>> violationMap;
+
+            if (violations == null) {
+                violationMap = Collections.emptyMap();
+            } else {
+                LinkedHashMap<String, List<Violation>> map = LinkedHashMap.newLinkedHashMap(violations.size());
+                violations.forEach((code, chain) -> map.put(code, chain.toList()));
+                violationMap = Collections.unmodifiableMap(map);
+            }
+
+            return new Partition<>(successes.toList(), violationMap,
+                    warnings == null ? Result.EMPTY_WARNINGS : warnings.toList(),
+                    successful, violated, warned);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package supernova.functional;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the {@link Result}s created in the process by outcome, by violation code and by warnings.
+ *
+ * <p>Metrics are opt-in: they are only recorded if the system property {@value #ENABLED_PROPERTY} is
+ * {@code true} at startup. The property is read once into a constant, so disabled metrics cost nothing but a
+ * branch the JIT removes.</p>
+ *
+ * <p>Counters are striped {@link LongAdder}s and violation codes are counted by their interned
+ * {@link ViolationCode} id, so recording takes no lock and no map lookup once a code has been seen.
+ * Recording never registers a code: violations whose code is not registered are counted together as
+ * {@link Snapshot#unregistered()}. Cached successful results are counted every time they are returned.</p>
+ *
+ * @since 1.1.1
+ */
+public final class ResultMetrics {
+
+    /**
+     * System property which enables the metrics.
+     */
+    public static final String ENABLED_PROPERTY = "supernova.functional.metrics";
+
+    static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private static final ResultMetrics GLOBAL = new ResultMetrics();
+
+    private final LongAdder successful = new LongAdder();
+    private final LongAdder violated = new LongAdder();
+    private final LongAdder warned = new LongAdder();
+    private final LongAdder warnings = new LongAdder();
+    private final LongAdder unregistered = new LongAdder();
+
+    /**
+     * Counters by code id; slots are created and the array is grown under the lock of this object.
+     */
+    private volatile AtomicReferenceArray<CodeCounter> violations = new AtomicReferenceArray<>(64);
+
+    private ResultMetrics() {
+    }
+
+    /**
+     * Gets the metrics of the process.
+     *
+     * @return the metrics
+     */
+    public static ResultMetrics global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Checks if the metrics are recorded.
+     *
+     * @return {@code true} if {@value #ENABLED_PROPERTY} is set
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Records the result if the metrics are enabled.
+     *
+     * @return the result itself
+     */
+    static <R extends Result<?>> R track(R result) {
+        if (ENABLED) {
+            GLOBAL.record(result);
+        }
+        return result;
+    }
+
+    private void record(Result<?> result) {
+        if (result instanceof Violated<?> violatedResult) {
+            violated.increment();
+            for (Violation violation : violatedResult.violations()) {
+                ViolationCode code = violation.getViolationCode();
+                if (code != null) {
+                    counter(code).count.increment();
+                } else {
+                    unregistered.increment();
+                }
+            }
+        } else {
+            successful.increment();
+        }
+
+        int warningCount = result.warnings().size();
+        if (warningCount != 0) {
+            warned.increment();
+            warnings.add(warningCount);
+        }
+    }
+
+    private CodeCounter counter(ViolationCode code) {
+        int id = code.id();
+        AtomicReferenceArray<CodeCounter> counters = violations;
+
+        if (id < counters.length()) {
+            CodeCounter counter = counters.get(id);
+            if (counter != null) {
+                return counter;
+            }
+        }
+
+        synchronized (this) {
+            counters = violations;
+
+            if (id >= counters.length()) {
+                AtomicReferenceArray<CodeCounter> grown =
+                        new AtomicReferenceArray<>(Math.max(id + 1, counters.length() << 1));
+                for (int i = 0; i < counters.length(); i++) {
+                    grown.set(i, counters.get(i));
+                }
+                violations = counters = grown;
+            }
+
+            CodeCounter counter = counters.get(id);
+            if (counter == null) {
+                counter = new CodeCounter(code);
+                counters.set(id, counter);
+            }
+            return counter;
+        }
+    }
+
+    /**
+     * Takes a snapshot of the counters. Counters are read one by one while results are still recorded, so
+     * the snapshot is not atomic.
+     *
+     * @return the snapshot
+     */
+    public Snapshot snapshot() {
+        Map<String, Long> byCode = new LinkedHashMap<>();
+        AtomicReferenceArray<CodeCounter> counters = violations;
+
+        for (int i = 0; i < counters.length(); i++) {
+            CodeCounter counter = counters.get(i);
+            if (counter != null) {
+                long count = counter.count.sum();
+                if (count != 0) {
+                    byCode.put(counter.code.name(), count);
+                }
+            }
+        }
+
+        return new Snapshot(successful.sum(), violated.sum(), warned.sum(), warnings.sum(),
+                Collections.unmodifiableMap(byCode), unregistered.sum());
+    }
+
+    /**
+     * Resets all the counters to zero.
+     */
+    public void reset() {
+        successful.reset();
+        violated.reset();
+        warned.reset();
+        warnings.reset();
+        unregistered.reset();
+
+        AtomicReferenceArray<CodeCounter> counters = violations;
+        for (int i = 0; i < counters.length(); i++) {
+            CodeCounter counter = counters.get(i);
+            if (counter != null) {
+                counter.count.reset();
+            }
+        }
+    }
+
+    /**
+     * Counts of the metrics at a point in time.
+     *
+     * @param successful number of successful results
+     * @param violated number of violated results
+     * @param warned number of results with at least one warning
+     * @param warnings total number of warnings
+     * @param violations number of violations by registered code, in order of code registration
+     * @param unregistered number of violations whose code was not registered
+     */
+    public record Snapshot(long successful, long violated, long warned, long warnings,
+                           Map<String, Long> violations, long unregistered) {
+
+        /**
+         * Gets the number of all results.
+         *
+         * @return the number of successful and violated results
+         */
+        public long total() {
+            return successful + violated;
+        }
+    }
+
+    private static final class CodeCounter {
+
+        private final ViolationCode code;
+        private final LongAdder count = new LongAdder();
+
+        private CodeCounter(ViolationCode code) {
+            this.code = code;
+        }
+    }
+}
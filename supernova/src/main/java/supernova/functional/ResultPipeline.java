@@ -0,0 +1,235 @@
+package supernova.functional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A reusable chain of {@link Result} transformations which runs as one fused step.
+ *
+ * <p>Chaining {@link Result#map(Function)} and friends allocates a result for every step. A pipeline instead
+ * passes the bare value from step to step and allocates only the final result. A violation skips every
+ * following step except {@link #recover(Function)}, without allocating anything.</p>
+ *
+ * <p>A pipeline is immutable and is meant to be built once, e.g. as a constant, and applied many times:</p>
+ *
+ * <pre>{@code
+ * static final ResultPipeline<String, Account> FIND_ACCOUNT = ResultPipeline.<String>start()
+ *         .map(String::strip)
+ *         .ensure(id -> !id.isEmpty(), Violation.of("ID_EMPTY", "Id must not be empty"))
+ *         .flatMap(accounts::find)
+ *         .ensure(Account::isActive, Violation.of("ACCOUNT_INACTIVE", "Account is inactive"));
+ *
+ * Result<Account> account = FIND_ACCOUNT.apply(id);
+ * }</pre>
+ *
+ * @param <T> the type of the input value
+ * @param <R> the type of the output value
+ * @since 1.1.1
+ */
+public final class ResultPipeline<T, R> implements Function<T, Result<R>> {
+
+    private static final ResultPipeline<?, ?> IDENTITY = new ResultPipeline<>(new Step[0]);
+
+    private static final int MAP = 0;
+    private static final int FLAT_MAP = 1;
+    private static final int ENSURE = 2;
+    private static final int RECOVER = 3;
+
+    private final Step[] steps;
+
+    /**
+     * Whether a violated input can become successful again.
+     */
+    private final boolean recovers;
+
+    private ResultPipeline(Step[] steps) {
+        this.steps = steps;
+        this.recovers = Arrays.stream(steps).anyMatch(step -> step.kind == RECOVER);
+    }
+
+    /**
+     * Returns an empty pipeline which passes the value through.
+     *
+     * @return an empty pipeline
+     * @param <T> the type of the value
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ResultPipeline<T, T> start() {
+        return (ResultPipeline<T, T>) IDENTITY;
+    }
+
+    /**
+     * Appends a step which transforms the value.
+     *
+     * @param mapper the function applied to the value
+     * @return a new pipeline
+     * @param <U> the type of the new value
+     */
+    public <U> ResultPipeline<T, U> map(Function<? super R, ? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper");
+        return append(new Step(MAP, mapper, null, null));
+    }
+
+    /**
+     * Appends a step which continues with another result. Its warnings are accumulated, its violations
+     * violate the pipeline.
+     *
+     * @param mapper the function which produces the next result
+     * @return a new pipeline
+     * @param <U> the type of the new value
+     */
+    public <U> ResultPipeline<T, U> flatMap(Function<? super R, Result<U>> mapper) {
+        Objects.requireNonNull(mapper, "mapper");
+        return append(new Step(FLAT_MAP, mapper, null, null));
+    }
+
+    /**
+     * Appends a step which violates the pipeline with the given violation if the value does not match the
+     * predicate.
+     *
+     * @param predicate the condition the value has to satisfy
+     * @param violation the violation if the condition is not satisfied
+     * @return a new pipeline
+     */
+    public ResultPipeline<T, R> ensure(Predicate<? super R> predicate, Violation violation) {
+        Objects.requireNonNull(predicate, "predicate");
+        Objects.requireNonNull(violation, "violation");
+        return append(new Step(ENSURE, null, predicate, violation));
+    }
+
+    /**
+     * Appends a step which violates the pipeline with the violation created from the value if the value does
+     * not match the predicate.
+     *
+     * @param predicate the condition the value has to satisfy
+     * @param violation the function which creates the violation if the condition is not satisfied
+     * @return a new pipeline
+     */
+    public ResultPipeline<T, R> ensure(Predicate<? super R> predicate, Function<? super R, Violation> violation) {
+        Objects.requireNonNull(predicate, "predicate");
+        Objects.requireNonNull(violation, "violation");
+        return append(new Step(ENSURE, violation, predicate, null));
+    }
+
+    /**
+     * Appends a step which turns the violations of the previous steps back into a value. Does nothing if the
+     * pipeline is not violated.
+     *
+     * @param recovery the function which creates the value from the violations
+     * @return a new pipeline
+     */
+    public ResultPipeline<T, R> recover(Function<? super List<Violation>, ? extends R> recovery) {
+        Objects.requireNonNull(recovery, "recovery");
+        return append(new Step(RECOVER, recovery, null, null));
+    }
+
+    /**
+     * Appends all the steps of another pipeline.
+     *
+     * @param next the pipeline which continues this one
+     * @return a new pipeline
+     * @param <U> the type of the new value
+     */
+    public <U> ResultPipeline<T, U> then(ResultPipeline<R, U> next) {
+        Step[] joined = Arrays.copyOf(steps, steps.length + next.steps.length);
+        System.arraycopy(next.steps, 0, joined, steps.length, next.steps.length);
+        return new ResultPipeline<>(joined);
+    }
+
+    /**
+     * Runs the pipeline with a value.
+     *
+     * @param value the input value
+     * @return the result of the last step
+     */
+    @Override
+    public Result<R> apply(T value) {
+        return run(value, null, Result.EMPTY_WARNINGS);
+    }
+
+    /**
+     * Runs the pipeline with the value, violations and warnings of a result.
+     */
+    Result<R> run(Result<T> result) {
+        if (result instanceof Violated<T> violated) {
+            return recovers
+                    ? run(null, violated.violations(), violated.warnings())
+                    : violated.propagate();
+        }
+        return run(result.value(), null, result.warnings());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Result<R> run(Object value, List<Violation> violations, List<Warning> warnings) {
+        // the first non-empty warning list is shared, a second one triggers a copy
+        List<Warning> collected = warnings;
+        boolean owned = false;
+
+        for (Step step : steps) {
+            if (violations != null) {
+                if (step.kind == RECOVER) {
+                    value = ((Function) step.function).apply(violations);
+                    violations = null;
+                }
+                continue;
+            }
+
+            switch (step.kind) {
+                case MAP -> value = ((Function) step.function).apply(value);
+                case FLAT_MAP -> {
+                    Result<?> next = (Result<?>) ((Function) step.function).apply(value);
+                    List<Warning> nextWarnings = next.warnings();
+
+                    if (!nextWarnings.isEmpty()) {
+                        if (collected.isEmpty()) {
+                            collected = nextWarnings;
+                        } else {
+                            if (!owned) {
+                                collected = new ArrayList<>(collected);
+                                owned = true;
+                            }
+                            collected.addAll(nextWarnings);
+                        }
+                    }
+
+                    if (next instanceof Violated<?> violated) {
+                        violations = violated.violations();
+                        value = null;
+                    } else {
+                        value = next.value();
+                    }
+                }
+                case ENSURE -> {
+                    if (!((Predicate) step.predicate).test(value)) {
+                        Violation violation = step.violation != null
+                                ? step.violation
+                                : (Violation) ((Function) step.function).apply(value);
+                        violations = List.of(violation);
+                        value = null;
+                    }
+                }
+                default -> {
+                    // recover is a no-op for a successful value
+                }
+            }
+        }
+
+        return Result.trusted((R) value, violations, owned ? List.copyOf(collected) : collected);
+    }
+
+    private <U> ResultPipeline<T, U> append(Step step) {
+        Step[] appended = Arrays.copyOf(steps, steps.length + 1);
+        appended[steps.length] = step;
+        return new ResultPipeline<>(appended);
+    }
+
+    /**
+     * A single step of the pipeline. Kept untyped so the whole chain is one flat array.
+     */
+    private record Step(int kind, Function<?, ?> function, Predicate<?> predicate, Violation violation) {
+    }
+}
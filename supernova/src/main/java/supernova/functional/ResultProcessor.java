@@ -0,0 +1,335 @@
+package supernova.functional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Streaming stage which processes the elements of a {@link Flow.Publisher} into {@link Result}s and splits
+ * them into a stream of successful values and a stream of violated results.
+ *
+ * <p>The processor subscribes to the source and publishes to two {@link SubmissionPublisher}s. It requests an
+ * element from the source only when an element in flight has been processed and published, so at most
+ * {@code maxInFlight} elements are processed at once. Publishing blocks while a subscriber of the outputs is
+ * behind by more than {@code bufferCapacity} items, so a slow subscriber slows down the source and memory
+ * stays bounded regardless of the size of the input.</p>
+ *
+ * <pre>{@code
+ * ResultProcessor<Row, Record> processor = ResultProcessor.builder()
+ *         .maxInFlight(64)
+ *         .build(parser::parse);
+ *
+ * ResultProcessor.batch(processor.successes(), 1000).subscribe(writer);
+ * processor.violations().subscribe(rejects);
+ * rows.subscribe(processor);
+ * }</pre>
+ *
+ * <p>The outputs should be subscribed to before the processor subscribes to the source: a
+ * {@link SubmissionPublisher} drops items while it has no subscribers. With more than one element in flight,
+ * results are published in the order they complete. Successful results with a {@code null} value are not
+ * published, and the warnings of successful results are dropped.</p>
+ *
+ * <p>When the source completes, the outputs complete once all elements in flight have been published. An
+ * error of the source or an exception of the function cancels the source and completes the outputs
+ * exceptionally.</p>
+ *
+ * @param <S> the type of the source elements
+ * @param <T> the type of the values of the results
+ * @since 1.1.1
+ */
+public final class ResultProcessor<S, T> implements Flow.Subscriber<S>, AutoCloseable {
+
+    private final Function<? super S, Result<T>> function;
+    private final Executor executor;
+    private final int maxInFlight;
+
+    private final SubmissionPublisher<T> successes;
+    private final SubmissionPublisher<Result<T>> violations;
+
+    private final AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+
+    /**
+     * Number of elements received but not published yet.
+     */
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile boolean sourceCompleted;
+
+    private ResultProcessor(Builder builder, Function<? super S, Result<T>> function) {
+        this.function = function;
+        this.executor = builder.executor;
+        this.maxInFlight = builder.maxInFlight;
+        this.successes = new SubmissionPublisher<>(builder.executor, builder.bufferCapacity);
+        this.violations = new SubmissionPublisher<>(builder.executor, builder.bufferCapacity);
+    }
+
+    /**
+     * Creates a {@link ResultProcessor} builder.
+     *
+     * @return a ResultProcessor builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Groups the items of a publisher into lists, with backpressure.
+     *
+     * <p>Every list has {@code size} items, except the last one, which has the items left when the publisher
+     * completes. The lists are published on new virtual threads.</p>
+     *
+     * @param publisher the publisher of the items
+     * @param size the number of items in a list
+     * @return a publisher of the lists
+     * @param <E> the type of the items
+     */
+    public static <E> Flow.Publisher<List<E>> batch(Flow.Publisher<E> publisher, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Batch size must be positive: " + size);
+        }
+
+        SubmissionPublisher<List<E>> batches = new SubmissionPublisher<>(AsyncResult.defaultExecutor(),
+                Flow.defaultBufferSize());
+        publisher.subscribe(new Batcher<>(size, batches));
+        return batches;
+    }
+
+    /**
+     * Gets the publisher of the values of the successful results.
+     *
+     * @return the publisher of the successful values
+     */
+    public Flow.Publisher<T> successes() {
+        return successes;
+    }
+
+    /**
+     * Gets the publisher of the violated results.
+     *
+     * @return the publisher of the violated results
+     */
+    public Flow.Publisher<Result<T>> violations() {
+        return violations;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "subscription");
+
+        if (closed.get() || !this.subscription.compareAndSet(null, subscription)) {
+            subscription.cancel();
+            return;
+        }
+        subscription.request(maxInFlight);
+    }
+
+    @Override
+    public void onNext(S item) {
+        if (closed.get()) {
+            return;
+        }
+
+        inFlight.incrementAndGet();
+        try {
+            executor.execute(() -> process(item));
+        } catch (RuntimeException e) {
+            inFlight.decrementAndGet();
+            fail(e);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        fail(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        sourceCompleted = true;
+        if (inFlight.get() == 0) {
+            complete();
+        }
+    }
+
+    /**
+     * Cancels the source and completes the outputs; elements in flight are not published anymore.
+     */
+    @Override
+    public void close() {
+        Flow.Subscription current = subscription.get();
+        if (current != null) {
+            current.cancel();
+        }
+        complete();
+    }
+
+    private void process(S item) {
+        try {
+            if (!closed.get()) {
+                Result<T> result = function.apply(item);
+
+                if (result.isViolated()) {
+                    violations.submit(result);
+                } else {
+                    T value = result.value();
+                    if (value != null) {
+                        successes.submit(value);
+                    }
+                }
+            }
+        } catch (Throwable e) {
+            fail(e);
+        } finally {
+            if (inFlight.decrementAndGet() == 0 && sourceCompleted) {
+                complete();
+            } else if (!closed.get()) {
+                subscription.get().request(1);
+            }
+        }
+    }
+
+    private void complete() {
+        if (closed.compareAndSet(false, true)) {
+            successes.close();
+            violations.close();
+        }
+    }
+
+    private void fail(Throwable throwable) {
+        if (closed.compareAndSet(false, true)) {
+            Flow.Subscription current = subscription.get();
+            if (current != null) {
+                current.cancel();
+            }
+            successes.closeExceptionally(throwable);
+            violations.closeExceptionally(throwable);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ResultProcessor[maxInFlight=" + maxInFlight + ", inFlight=" + inFlight.get() + ']';
+    }
+
+    /**
+     * Collects items into lists; the publisher calls a subscriber sequentially.
+     */
+    private static final class Batcher<E> implements Flow.Subscriber<E> {
+
+        private final int size;
+        private final SubmissionPublisher<List<E>> batches;
+        private Flow.Subscription subscription;
+        private List<E> batch;
+
+        private Batcher(int size, SubmissionPublisher<List<E>> batches) {
+            this.size = size;
+            this.batches = batches;
+            this.batch = new ArrayList<>(size);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(size);
+        }
+
+        @Override
+        public void onNext(E item) {
+            batch.add(item);
+
+            if (batch.size() == size) {
+                batches.submit(batch);
+                batch = new ArrayList<>(size);
+                subscription.request(size);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            batches.closeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            if (!batch.isEmpty()) {
+                batches.submit(batch);
+                batch = null;
+            }
+            batches.close();
+        }
+    }
+
+    /**
+     * Builder of a {@link ResultProcessor}.
+     */
+    public static final class Builder {
+
+        private int maxInFlight = 16;
+        private int bufferCapacity = Flow.defaultBufferSize();
+        private Executor executor = AsyncResult.defaultExecutor();
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum number of elements processed at once, 16 by default.
+         *
+         * @param maxInFlight the maximum number of elements in flight
+         * @return this builder
+         */
+        public Builder maxInFlight(int maxInFlight) {
+            if (maxInFlight < 1) {
+                throw new IllegalArgumentException("Maximum in flight must be positive: " + maxInFlight);
+            }
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        /**
+         * Sets how many items a subscriber of an output may be behind before publishing blocks,
+         * {@link Flow#defaultBufferSize()} by default.
+         *
+         * @param bufferCapacity the capacity of the buffer of each subscriber
+         * @return this builder
+         */
+        public Builder bufferCapacity(int bufferCapacity) {
+            if (bufferCapacity < 1) {
+                throw new IllegalArgumentException("Buffer capacity must be positive: " + bufferCapacity);
+            }
+            this.bufferCapacity = bufferCapacity;
+            return this;
+        }
+
+        /**
+         * Sets the executor which runs the function and delivers the outputs, a new virtual thread per task
+         * by default. Processing blocks while an output is full, so the executor should not be a small pool.
+         *
+         * @param executor the executor
+         * @return this builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "executor");
+            return this;
+        }
+
+        /**
+         * Builds a processor of the function.
+         *
+         * @param function processes an element into a result; it must not return {@code null}
+         * @return the processor
+         * @param <S> the type of the source elements
+         * @param <T> the type of the values of the results
+         */
+        public <S, T> ResultProcessor<S, T> build(Function<? super S, Result<T>> function) {
+            return new ResultProcessor<>(this, Objects.requireNonNull(function, "function"));
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package supernova.functional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * A successful {@link Result} which holds a value and optional warnings, but never violations.
+ *
+ * <p>Instances are created by the factory methods of {@link Result}.</p>
+ *
+ * @param <T> the type of the contained value.
+ * @since 1.1.1
+ */
+public final class Success<T> extends Result<T> {
+
+    private final T value;
+
+    /**
+     * Shared empty list when the result has no warnings.
+     */
+    private final List<Warning> warnings;
+
+    /**
+     * Constructs a successful result; the warnings are owned by the result and never copied.
+     */
+    Success(T value, List<Warning> warnings) {
+        this.value = value;
+        this.warnings = warnings;
+    }
+
+    /**
+     * Gets the nullable value of the result.
+     *
+     * @return the value
+     */
+    @Override
+    T value() {
+        return value;
+    }
+
+    @Override
+    public boolean isSuccessful() {
+        return true;
+    }
+
+    @Override
+    public boolean isViolated() {
+        return false;
+    }
+
+    @Override
+    public boolean containsViolation(String code) {
+        return false;
+    }
+
+    @Override
+    public boolean containsViolation(ViolationCode code) {
+        return false;
+    }
+
+    @Override
+    public Result<T> whenSuccessful(Consumer<? super T> action) {
+        action.accept(value);
+        return this;
+    }
+
+    @Override
+    public Result<T> whenViolated(Consumer<Collection<Violation>> action) {
+        return this;
+    }
+
+    @Override
+    public T get() {
+        return value;
+    }
+
+    @Override
+    public T getOrElse(T defaultValue) {
+        return value;
+    }
+
+    @Override
+    public <U> Result<U> map(Function<? super T, ? extends U> mapper) {
+        return Result.trusted(mapper.apply(value), EMPTY_VIOLATIONS, warnings);
+    }
+
+    @Override
+    public <U> Result<U> flatMap(Function<? super T, Result<U>> mapper) {
+        return Result.withWarnings(warnings, mapper.apply(value));
+    }
+
+    @Override
+    public Result<T> ensure(Predicate<? super T> predicate, Violation violation) {
+        return predicate.test(value)
+                ? this
+                : ResultMetrics.track(new Violated<>(null, List.of(violation), warnings));
+    }
+
+    @Override
+    public Result<T> ensure(Predicate<? super T> predicate, Function<? super T, Violation> violation) {
+        return predicate.test(value)
+                ? this
+                : ResultMetrics.track(new Violated<>(null, List.of(violation.apply(value)), warnings));
+    }
+
+    @Override
+    public Result<T> recover(Function<? super List<Violation>, ? extends T> recovery) {
+        return this;
+    }
+
+    @Override
+    public <R> R fold(Function<? super T, ? extends R> onSuccessful,
+                      Function<? super List<Violation>, ? extends R> onViolated) {
+        return onSuccessful.apply(value);
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return Stream.ofNullable(value);
+    }
+
+    @Override
+    public List<Violation> violations() {
+        return EMPTY_VIOLATIONS;
+    }
+
+    @Override
+    public List<Warning> warnings() {
+        return warnings;
+    }
+}
@@ -0,0 +1,518 @@
+package supernova.functional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+/**
+ * Validates values against a list of rules and produces a {@link Result} of the value.
+ *
+ * <p>A validator is built from {@link Rule}s: checks of the whole value, checks of a field and nested
+ * validators of a field or of every element of a collection. The violations and warnings of the rules are
+ * accumulated in the order of the rules, regardless of the order in which the rules complete.</p>
+ *
+ * <pre>{@code
+ * Validator<Order> validator = Validator.<Order>builder()
+ *         .check(order -> order.id() != null, Violation.constant("ID_MISSING", "Order must have an id"))
+ *         .field(Order::customer, customerValidator)
+ *         .each(Order::lines, lineValidator)
+ *         .rule(order -> stock.reserve(order.lines()))
+ *         .parallel(8)
+ *         .build();
+ *
+ * Result<Order> result = validator.validate(order);
+ * }</pre>
+ *
+ * <p>By default the rules run one after another on the calling thread. A parallel validator runs every rule
+ * as a separate task on its {@link Executor}, a new virtual thread per task by default, with at most the
+ * configured number of rules running at once; the calling thread waits until all the rules are done. This
+ * lets expensive rules, such as lookups, overlap. Rules of a parallel validator must be thread-safe.</p>
+ *
+ * <p>A fail-fast validator stops at the first violated rule: sequentially, the following rules are not run;
+ * in parallel, rules which have not been started yet are skipped and the violations of all rules which
+ * completed are reported. A collect-all validator, the default, always runs every rule.</p>
+ *
+ * <p>An exception thrown by a rule is propagated to the caller of {@link #validate(Object)}; a checked exception
+ * thrown by a rule of a parallel validator is wrapped in a {@link CompletionException}. A validator is immutable
+ * and thread-safe.</p>
+ *
+ * @param <T> the type of the validated value
+ * @since 1.1.1
+ */
+public final class Validator<T> implements Function<T, Result<T>> {
+
+    private final Rule<? super T>[] rules;
+    private final boolean failFast;
+    private final Executor executor;
+
+    /**
+     * Maximum number of rules running at once, {@code 0} if the rules run sequentially.
+     */
+    private final int concurrency;
+
+    private Validator(Builder<T> builder) {
+        // the builder only accepts Rule<? super T>, and the array never escapes, so the cast is safe
+        @SuppressWarnings("unchecked")
+        Rule<? super T>[] rules = (Rule<? super T>[]) builder.rules.toArray(new Rule<?>[0]);
+        this.rules = rules;
+        this.failFast = builder.failFast;
+        this.executor = builder.executor;
+        this.concurrency = builder.concurrency;
+    }
+
+    /**
+     * Creates a {@link Validator} builder.
+     *
+     * @return a Validator builder
+     * @param <T> the type of the validated value
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Validates the value.
+     *
+     * @param value the value
+     * @return a successful result of the value with the warnings of the rules, or a violated result with the
+     * violations and warnings of the rules
+     */
+    public Result<T> validate(T value) {
+        Result<?>[] results = concurrency == 0
+                ? runSequentially(rules.length, i -> rules[i].validate(value))
+                : runInParallel(rules.length, i -> rules[i].validate(value));
+
+        return merge(value, results);
+    }
+
+    /**
+     * Validates the value, same as {@link #validate(Object)}.
+     */
+    @Override
+    public Result<T> apply(T value) {
+        return validate(value);
+    }
+
+    /**
+     * Validates every value of a batch.
+     *
+     * <p>A parallel validator validates the values in parallel, each of them with its rules running
+     * sequentially, so that the concurrency limit holds for the whole batch. A fail-fast validator stops at the
+     * first violated value.</p>
+     *
+     * @param values the values
+     * @return a successful result of all the values, or a violated result with the violations of all the
+     * violated values; the warnings of all values are kept
+     */
+    public Result<List<T>> validateAll(Collection<? extends T> values) {
+        @SuppressWarnings("unchecked")
+        T[] array = (T[]) values.toArray();
+
+        Result<?>[] results = concurrency == 0
+                ? runSequentially(array.length, i -> validate(array[i]))
+                : runInParallel(array.length, i -> merge(array[i], runSequentially(rules.length,
+                        j -> rules[j].validate(array[i]))));
+
+        List<Result<T>> validated = new ArrayList<>(results.length);
+        for (Result<?> result : results) {
+            if (result != null) {
+                @SuppressWarnings("unchecked")
+                Result<T> typed = (Result<T>) result;
+                validated.add(typed);
+            }
+        }
+
+        return ResultCollectors.aggregate(validated, false);
+    }
+
+    /**
+     * Runs the tasks one after another; the results of tasks which were not run are {@code null}.
+     */
+    private Result<?>[] runSequentially(int count, IntFunction<Result<?>> task) {
+        Result<?>[] results = new Result<?>[count];
+
+        for (int i = 0; i < count; i++) {
+            Result<?> result = results[i] = task.apply(i);
+            if (failFast && result.isViolated()) {
+                break;
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Runs the tasks on the executor, at most {@link #concurrency} at once; the results of tasks which were
+     * skipped are {@code null}.
+     */
+    private Result<?>[] runInParallel(int count, IntFunction<Result<?>> task) {
+        Result<?>[] results = new Result<?>[count];
+
+        if (count == 1) {
+            results[0] = task.apply(0);
+            return results;
+        }
+
+        Throwable[] errors = new Throwable[count];
+        Semaphore permits = new Semaphore(concurrency);
+        CountDownLatch done = new CountDownLatch(count);
+
+        AtomicBoolean violated = new AtomicBoolean();
+
+        try {
+            for (int i = 0; i < count; i++) {
+                permits.acquire();
+
+                if (failFast && violated.get()) {
+                    permits.release();
+                    for (; i < count; i++) {
+                        done.countDown();
+                    }
+                    break;
+                }
+
+                int index = i;
+                try {
+                    executor.execute(() -> {
+                        try {
+                            if (!(failFast && violated.get())) {
+                                Result<?> result = results[index] = task.apply(index);
+                                if (result.isViolated()) {
+                                    violated.set(true);
+                                }
+                            }
+                        } catch (Throwable e) {
+                            errors[index] = e;
+                        } finally {
+                            permits.release();
+                            done.countDown();
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    permits.release();
+                    done.countDown();
+                    errors[index] = e;
+                }
+            }
+
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Validation was interrupted");
+        }
+
+        for (Throwable error : errors) {
+            if (error instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (error instanceof Error e) {
+                throw e;
+            }
+            if (error != null) {
+                // a checked exception thrown sneakily by a rule
+                throw new CompletionException(error);
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Accumulates the violations and warnings of the results, in order, into a result of the value.
+     */
+    private static <T> Result<T> merge(T value, Result<?>[] results) {
+        ResultBuilder<T> builder = null;
+
+        for (Result<?> result : results) {
+            if (result == null) {
+                continue;
+            }
+
+            List<Violation> violations = result.violations();
+            List<Warning> warnings = result.warnings();
+
+            if (!violations.isEmpty() || !warnings.isEmpty()) {
+                if (builder == null) {
+                    builder = Result.<T>builder().value(value);
+                }
+                builder.violate(violations).warn(warnings);
+            }
+        }
+
+        return builder == null ? Result.successful(value) : builder.build();
+    }
+
+    @Override
+    public String toString() {
+        return "Validator[rules=" + rules.length
+                + ", failFast=" + failFast
+                + ", concurrency=" + (concurrency == 0 ? "sequential" : concurrency)
+                + ']';
+    }
+
+    /**
+     * A rule of a {@link Validator}.
+     *
+     * <p>The rule reports problems of the value as the violations and warnings of the returned result; the
+     * value of the returned result is ignored.</p>
+     *
+     * @param <T> the type of the validated value
+     */
+    @FunctionalInterface
+    public interface Rule<T> {
+
+        /**
+         * Validates the value.
+         *
+         * @param value the value
+         * @return a result with the violations and warnings of the value
+         */
+        Result<?> validate(T value);
+
+        /**
+         * Creates a rule which is violated if the value does not satisfy the predicate.
+         *
+         * @param predicate the condition of the value
+         * @param violation the violation reported if the condition is not satisfied
+         * @return the rule
+         * @param <T> the type of the validated value
+         */
+        static <T> Rule<T> of(Predicate<? super T> predicate, Violation violation) {
+            Objects.requireNonNull(violation, "violation");
+            Result<?> violated = Result.violated(violation);
+            return value -> predicate.test(value) ? Result.successful() : violated;
+        }
+
+        /**
+         * Creates a rule which is violated if the value does not satisfy the predicate.
+         *
+         * @param predicate the condition of the value
+         * @param violation creates the violation from the value if the condition is not satisfied
+         * @return the rule
+         * @param <T> the type of the validated value
+         */
+        static <T> Rule<T> of(Predicate<? super T> predicate, Function<? super T, Violation> violation) {
+            return value -> predicate.test(value) ? Result.successful() : Result.violated(violation.apply(value));
+        }
+
+        /**
+         * Creates a rule which warns if the value does not satisfy the predicate.
+         *
+         * @param predicate the condition of the value
+         * @param warning the warning reported if the condition is not satisfied
+         * @return the rule
+         * @param <T> the type of the validated value
+         */
+        static <T> Rule<T> warning(Predicate<? super T> predicate, Warning warning) {
+            Objects.requireNonNull(warning, "warning");
+            Result<?> warned = Result.successful(warning);
+            return value -> predicate.test(value) ? Result.successful() : warned;
+        }
+
+        /**
+         * Creates a rule which validates a field of the value.
+         *
+         * @param field gets the field from the value
+         * @param rule the rule of the field
+         * @return the rule
+         * @param <T> the type of the validated value
+         * @param <F> the type of the field
+         */
+        static <T, F> Rule<T> field(Function<? super T, ? extends F> field, Rule<? super F> rule) {
+            Objects.requireNonNull(rule, "rule");
+            return value -> rule.validate(field.apply(value));
+        }
+
+        /**
+         * Creates a rule which validates every element of a collection of the value, one after another.
+         *
+         * @param elements gets the elements from the value
+         * @param rule the rule of an element
+         * @return the rule
+         * @param <T> the type of the validated value
+         * @param <E> the type of the elements
+         */
+        static <T, E> Rule<T> each(Function<? super T, ? extends Iterable<? extends E>> elements,
+                                   Rule<? super E> rule) {
+            Objects.requireNonNull(rule, "rule");
+            return value -> {
+                Iterable<? extends E> iterable = elements.apply(value);
+                if (iterable == null) {
+                    return Result.successful();
+                }
+
+                ResultBuilder<Void> builder = null;
+                for (E element : iterable) {
+                    Result<?> result = rule.validate(element);
+                    if (!result.violations().isEmpty() || !result.warnings().isEmpty()) {
+                        if (builder == null) {
+                            builder = Result.builder();
+                        }
+                        builder.violate(result.violations()).warn(result.warnings());
+                    }
+                }
+                return builder == null ? Result.successful() : builder.build();
+            };
+        }
+    }
+
+    /**
+     * Builder of a {@link Validator}.
+     *
+     * @param <T> the type of the validated value
+     */
+    public static final class Builder<T> {
+
+        private final List<Rule<? super T>> rules = new ArrayList<>();
+        private boolean failFast;
+        private Executor executor = AsyncResult.defaultExecutor();
+        private int concurrency;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a rule.
+         *
+         * @param rule the rule
+         * @return this builder
+         */
+        public Builder<T> rule(Rule<? super T> rule) {
+            rules.add(Objects.requireNonNull(rule, "rule"));
+            return this;
+        }
+
+        /**
+         * Adds a check of the value, see {@link Rule#of(Predicate, Violation)}.
+         *
+         * @return this builder
+         */
+        public Builder<T> check(Predicate<? super T> predicate, Violation violation) {
+            return rule(Rule.of(predicate, violation));
+        }
+
+        /**
+         * Adds a check of the value, see {@link Rule#of(Predicate, Function)}.
+         *
+         * @return this builder
+         */
+        public Builder<T> check(Predicate<? super T> predicate, Function<? super T, Violation> violation) {
+            return rule(Rule.of(predicate, violation));
+        }
+
+        /**
+         * Adds a check which warns, see {@link Rule#warning(Predicate, Warning)}.
+         *
+         * @return this builder
+         */
+        public Builder<T> warn(Predicate<? super T> predicate, Warning warning) {
+            return rule(Rule.warning(predicate, warning));
+        }
+
+        /**
+         * Adds a rule of a field, see {@link Rule#field(Function, Rule)}.
+         *
+         * @return this builder
+         */
+        public <F> Builder<T> field(Function<? super T, ? extends F> field, Rule<? super F> rule) {
+            return rule(Rule.field(field, rule));
+        }
+
+        /**
+         * Adds a nested validator of a field. The nested validator runs with its own mode and concurrency.
+         *
+         * @return this builder
+         */
+        public <F> Builder<T> field(Function<? super T, ? extends F> field, Validator<? super F> validator) {
+            return rule(Rule.field(field, validator::validate));
+        }
+
+        /**
+         * Adds a rule of every element of a collection, see {@link Rule#each(Function, Rule)}.
+         *
+         * @return this builder
+         */
+        public <E> Builder<T> each(Function<? super T, ? extends Iterable<? extends E>> elements,
+                                   Rule<? super E> rule) {
+            return rule(Rule.each(elements, rule));
+        }
+
+        /**
+         * Adds a nested validator of every element of a collection.
+         *
+         * @return this builder
+         */
+        public <E> Builder<T> each(Function<? super T, ? extends Iterable<? extends E>> elements,
+                                   Validator<? super E> validator) {
+            return rule(Rule.each(elements, validator::validate));
+        }
+
+        /**
+         * Stops at the first violated rule instead of running all of them.
+         *
+         * @param failFast {@code true} to stop at the first violation
+         * @return this builder
+         */
+        public Builder<T> failFast(boolean failFast) {
+            this.failFast = failFast;
+            return this;
+        }
+
+        /**
+         * Runs the rules in parallel on new virtual threads.
+         *
+         * @param concurrency maximum number of rules running at once
+         * @return this builder
+         */
+        public Builder<T> parallel(int concurrency) {
+            return parallel(concurrency, AsyncResult.defaultExecutor());
+        }
+
+        /**
+         * Runs the rules in parallel on the executor. The calling thread blocks until the rules are done, so
+         * the executor must not be one whose threads validate with this validator, e.g. a bounded pool.
+         *
+         * @param concurrency maximum number of rules running at once
+         * @param executor the executor of the rules
+         * @return this builder
+         */
+        public Builder<T> parallel(int concurrency, Executor executor) {
+            if (concurrency < 1) {
+                throw new IllegalArgumentException("Concurrency must be positive: " + concurrency);
+            }
+            this.concurrency = concurrency;
+            this.executor = Objects.requireNonNull(executor, "executor");
+            return this;
+        }
+
+        /**
+         * Runs the rules sequentially on the calling thread, which is the default.
+         *
+         * @return this builder
+         */
+        public Builder<T> sequential() {
+            this.concurrency = 0;
+            this.executor = AsyncResult.defaultExecutor();
+            return this;
+        }
+
+        /**
+         * Builds the validator.
+         *
+         * @return the validator
+         */
+        public Validator<T> build() {
+            return new Validator<>(this);
+        }
+    }
+}
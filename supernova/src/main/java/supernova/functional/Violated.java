@@ -0,0 +1,159 @@
+package supernova.functional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * A violated {@link Result} which holds at least one violation and optional warnings.
+ *
+ * <p>Instances are created by the factory methods of {@link Result}.</p>
+ *
+ * @param <T> the type of the contained value.
+ * @since 1.1.1
+ */
+public final class Violated<T> extends Result<T> {
+
+    /**
+     * Nullable value which is only kept for {@link Result#of(Object, List, List)}.
+     */
+    private final T value;
+
+    /**
+     * Never empty.
+     */
+    private final List<Violation> violations;
+
+    private final List<Warning> warnings;
+
+    /**
+     * Index of the violation codes, built on the first lookup.
+     */
+    private volatile CodeIndex codeIndex;
+
+    /**
+     * Constructs a violated result; the lists are owned by the result and never copied.
+     */
+    Violated(T value, List<Violation> violations, List<Warning> warnings) {
+        this.value = value;
+        this.violations = violations;
+        this.warnings = warnings;
+    }
+
+    /**
+     * Returns this violation as a result of another type, which is how violations pass through a
+     * transformation. Does not allocate unless the result carries a value.
+     *
+     * @return the violated result without its value
+     * @param <U> the type of the new value
+     */
+    @SuppressWarnings("unchecked")
+    <U> Violated<U> propagate() {
+        return value == null
+                ? (Violated<U>) this
+                : ResultMetrics.track(new Violated<>(null, violations, warnings));
+    }
+
+    @Override
+    T value() {
+        return value;
+    }
+
+    @Override
+    public boolean isSuccessful() {
+        return false;
+    }
+
+    @Override
+    public boolean isViolated() {
+        return true;
+    }
+
+    @Override
+    public boolean containsViolation(String code) {
+        return codeIndex().contains(code);
+    }
+
+    @Override
+    public boolean containsViolation(ViolationCode code) {
+        return codeIndex().contains(code);
+    }
+
+    private CodeIndex codeIndex() {
+        CodeIndex index = codeIndex;
+        if (index == null) {
+            index = codeIndex = CodeIndex.of(violations);
+        }
+        return index;
+    }
+
+    @Override
+    public Result<T> whenSuccessful(Consumer<? super T> action) {
+        return this;
+    }
+
+    @Override
+    public Result<T> whenViolated(Consumer<Collection<Violation>> action) {
+        action.accept(violations);
+        return this;
+    }
+
+    @Override
+    public T get() {
+        throw ViolatedException.of(violations);
+    }
+
+    @Override
+    public T getOrElse(T defaultValue) {
+        return defaultValue;
+    }
+
+    @Override
+    public <U> Result<U> map(Function<? super T, ? extends U> mapper) {
+        return propagate();
+    }
+
+    @Override
+    public <U> Result<U> flatMap(Function<? super T, Result<U>> mapper) {
+        return propagate();
+    }
+
+    @Override
+    public Result<T> ensure(Predicate<? super T> predicate, Violation violation) {
+        return this;
+    }
+
+    @Override
+    public Result<T> ensure(Predicate<? super T> predicate, Function<? super T, Violation> violation) {
+        return this;
+    }
+
+    @Override
+    public Result<T> recover(Function<? super List<Violation>, ? extends T> recovery) {
+        return Result.trusted(recovery.apply(violations), EMPTY_VIOLATIONS, warnings);
+    }
+
+    @Override
+    public <R> R fold(Function<? super T, ? extends R> onSuccessful,
+                      Function<? super List<Violation>, ? extends R> onViolated) {
+        return onViolated.apply(violations);
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return Stream.empty();
+    }
+
+    @Override
+    public List<Violation> violations() {
+        return violations;
+    }
+
+    @Override
+    public List<Warning> warnings() {
+        return warnings;
+    }
+}
@@ -5,25 +5,69 @@ import java.util.stream.Collectors;
 
 /**
  * Thrown when operation of {@link Result} is violated.
+ *
+ * <p>The message is built on the first {@link #getMessage()}. A lightweight exception additionally skips
+ * filling in the stack trace and suppression, which makes it cheap enough for callers that use
+ * {@link Result#get()} and exception handling as control flow. {@link Result#get()} throws lightweight
+ * exceptions if the system property {@value #LIGHTWEIGHT_PROPERTY} is {@code true}.</p>
  */
 public class ViolatedException extends RuntimeException {
 
+    /**
+     * System property which makes {@link Result#get()} throw lightweight exceptions.
+     */
+    public static final String LIGHTWEIGHT_PROPERTY = "supernova.functional.lightweightViolatedException";
+
+    private static final boolean LIGHTWEIGHT = Boolean.getBoolean(LIGHTWEIGHT_PROPERTY);
+
     private final Collection<Violation> violations;
 
+    /**
+     * Built on first use.
+     */
+    private String message;
+
     /**
      * The default constructor.
      *
      * @param violations Collection of violations.
      */
     public ViolatedException(Collection<Violation> violations) {
-        super("Result operation is violated: " + formatViolations(violations));
+        this(violations, false);
+    }
+
+    /**
+     * Constructs either a regular or a lightweight exception.
+     *
+     * @param violations Collection of violations.
+     * @param lightweight if {@code true}, the stack trace is not filled in and suppression is disabled
+     */
+    public ViolatedException(Collection<Violation> violations, boolean lightweight) {
+        super(null, null, !lightweight, !lightweight);
         this.violations = violations;
     }
 
+    /**
+     * Creates the exception thrown by {@link Result#get()}, which is lightweight if configured by
+     * {@value #LIGHTWEIGHT_PROPERTY}.
+     */
+    static ViolatedException of(Collection<Violation> violations) {
+        return new ViolatedException(violations, LIGHTWEIGHT);
+    }
+
     public Collection<Violation> getViolations() {
         return violations;
     }
 
+    @Override
+    public String getMessage() {
+        String message = this.message;
+        if (message == null) {
+            message = this.message = "Result operation is violated: " + formatViolations(violations);
+        }
+        return message;
+    }
+
     private static String formatViolations(Collection<Violation> violations) {
         if (violations == null || violations.isEmpty()) return "None";
         return violations.stream()
@@ -1,18 +1,36 @@
 package supernova.functional;
 
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Violation represent as error that contain error field and error message.
  *
+ * <p>The message can be lazy, see {@link #lazy(String, Supplier)} and {@link #format(String, String, Object...)};
+ * it is then rendered on the first {@link #getMessage()} and cached, and the supplier or the arguments are
+ * released.</p>
+ *
+ * <p>A violation of a {@link ResultBuilder#deduplicate(int) deduplicated} result stands for several equal
+ * violations; see {@link #getOccurrences()}.</p>
+ *
  * @author Izhar Atharzi
  * @since 1.0.0
  */
 public class Violation {
 
     private final String code;
-    private final String message;
     private final Object object;
+    private final long occurrences;
+
+    /**
+     * The message, or its {@link LazyMessage} source until rendered.
+     */
+    private Object message;
+
+    /**
+     * Interned code, resolved on first use once the code is registered.
+     */
+    private ViolationCode violationCode;
 
     /**
      * Creates violation builder.
@@ -42,13 +60,60 @@ public class Violation {
         return new Violation(code, message, object);
     }
 
+    /**
+     * Creates violation from code and a message which is rendered on first use.
+     */
+    public static Violation lazy(String code, Supplier<String> message) {
+        return new Violation(code, LazyMessage.of(Objects.requireNonNull(message, "message")), null);
+    }
+
+    /**
+     * Creates violation from code and a message template which is formatted with the arguments on first use,
+     * as specified by {@link String#format(String, Object...)}.
+     *
+     * <p>The arguments are referenced until the message is rendered, so they should be immutable.</p>
+     */
+    public static Violation format(String code, String template, Object... args) {
+        return new Violation(code, LazyMessage.format(Objects.requireNonNull(template, "template"), args), null);
+    }
+
+    /**
+     * Gets the shared violation of the code and the message, see {@link ViolationCode#constant(String)}.
+     *
+     * <p>Meant for constant pairs only; shared violations are never removed.</p>
+     */
+    public static Violation constant(String code, String message) {
+        return ViolationCode.of(Objects.requireNonNullElse(code, "")).constant(message);
+    }
+
+    /**
+     * Creates violation from an interned code.
+     */
+    static Violation of(ViolationCode code, String message, Object object) {
+        Violation violation = new Violation(code.name(), message, object);
+        violation.violationCode = code;
+        return violation;
+    }
+
     /**
      * Construct all the fields.
      */
     private Violation(String code, String message, Object object) {
+        this(code, (Object) message, object);
+    }
+
+    /**
+     * Construct all the fields with either an eager message or a {@link LazyMessage}.
+     */
+    private Violation(String code, Object message, Object object) {
+        this(code, message, object, 1);
+    }
+
+    private Violation(String code, Object message, Object object, long occurrences) {
         this.object = object;
         this.code = Objects.requireNonNullElse(code, "");
         this.message = message;
+        this.occurrences = occurrences;
     }
 
     /**
@@ -62,13 +127,61 @@ public class Violation {
         return code;
     }
 
+    /**
+     * Gets the interned code of the violation, without registering it.
+     *
+     * <p>Codes are registered by {@link ViolationCode#of(String)}; a violation created from an unregistered code
+     * string has no interned code until the code is registered.</p>
+     *
+     * @return interned violation code, or {@code null} if the code is not registered
+     */
+    public ViolationCode getViolationCode() {
+        ViolationCode violationCode = this.violationCode;
+        if (violationCode == null) {
+            violationCode = this.violationCode = ViolationCode.find(code);
+        }
+        return violationCode;
+    }
+
     /**
      * Gets the message of the violation.
      *
      * @return violation message
      */
     public String getMessage() {
-        return message;
+        Object message = this.message;
+        if (message instanceof LazyMessage source) {
+            String rendered = source.render();
+            // racing threads may both render, strings are safely published either way
+            this.message = LazyMessage.rendered(rendered);
+            return rendered;
+        }
+        return LazyMessage.message(message);
+    }
+
+    /**
+     * Gets the number of occurrences of the violation, which is greater than one in a deduplicated result.
+     *
+     * @return the number of occurrences
+     */
+    public long getOccurrences() {
+        return occurrences;
+    }
+
+    /**
+     * Gets a key of the message without rendering it, see {@link LazyMessage#key(Object)}.
+     */
+    Object messageKey() {
+        return LazyMessage.key(message);
+    }
+
+    /**
+     * Copies the violation with another number of occurrences, sharing the message and the interned code.
+     */
+    Violation withOccurrences(long occurrences) {
+        Violation violation = new Violation(code, message, object, occurrences);
+        violation.violationCode = violationCode;
+        return violation;
     }
 
     /**
@@ -88,6 +201,7 @@ public class Violation {
         private Object object;
         private String code;
         private String message;
+        private Supplier<String> lazyMessage;
 
         public Builder() {
         }
@@ -102,13 +216,27 @@ public class Violation {
             return this;
         }
 
+        public Builder code(ViolationCode code) {
+            this.code = code.name();
+            return this;
+        }
+
         public Builder message(String message) {
             this.message = message;
+            this.lazyMessage = null;
+            return this;
+        }
+
+        public Builder lazyMessage(Supplier<String> message) {
+            this.lazyMessage = message;
+            this.message = null;
             return this;
         }
 
         public Violation build() {
-            return new Violation(code, message, object);
+            return lazyMessage != null
+                    ? new Violation(code, LazyMessage.of(lazyMessage), object)
+                    : new Violation(code, message, object);
         }
     }
 }
@@ -0,0 +1,171 @@
+package supernova.functional;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An interned violation code with a small integer id.
+ *
+ * <p>There is exactly one instance per code string, so codes are compared by identity and results index
+ * their codes by id, which makes {@link Result#containsViolation(ViolationCode)} a constant time check.
+ * Ids are assigned in order of registration starting from {@code 0}, and are only stable within a single
+ * process.</p>
+ *
+ * <p>Codes are never removed from the registry, so it is meant for the fixed set of codes an application
+ * defines, not for codes built from arbitrary input. Only {@link #of(String)} and the constant violations
+ * register codes; looking up, indexing, counting and decoding violations use {@link #find(String)}, and
+ * violations with unregistered codes are matched by name.</p>
+ *
+ * <pre>{@code
+ * static final ViolationCode ACCOUNT_NOT_FOUND = ViolationCode.of("ACCOUNT_NOT_FOUND");
+ *
+ * if (result.containsViolation(ACCOUNT_NOT_FOUND)) {
+ *     // ...
+ * }
+ * }</pre>
+ *
+ * @since 1.1.1
+ */
+public final class ViolationCode {
+
+    private static final ConcurrentMap<String, ViolationCode> REGISTRY = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+    private final String name;
+    private final int id;
+
+    /**
+     * Shared violations of this code by message, created on the first {@link #constant(String)}.
+     */
+    private volatile ConcurrentMap<String, Violation> constants;
+
+    /**
+     * Shared violation of this code without message.
+     */
+    private volatile Violation constantWithoutMessage;
+
+    private ViolationCode(String name, int id) {
+        this.name = name;
+        this.id = id;
+    }
+
+    /**
+     * Gets the interned code, registering it on first use.
+     *
+     * @param name the code
+     * @return the interned code
+     */
+    public static ViolationCode of(String name) {
+        Objects.requireNonNull(name, "name");
+
+        ViolationCode code = REGISTRY.get(name);
+        if (code != null) {
+            return code;
+        }
+
+        return REGISTRY.computeIfAbsent(name, key -> new ViolationCode(key, NEXT_ID.getAndIncrement()));
+    }
+
+    /**
+     * Gets the interned code without registering it.
+     *
+     * @param name the code
+     * @return the interned code or {@code null} if the code was never registered
+     */
+    public static ViolationCode find(String name) {
+        return name == null ? null : REGISTRY.get(name);
+    }
+
+    /**
+     * Gets the number of registered codes; every id is below this number.
+     *
+     * @return the number of registered codes
+     */
+    public static int registered() {
+        return NEXT_ID.get();
+    }
+
+    /**
+     * Gets the code.
+     *
+     * @return the code, e.g. "ACCOUNT_NOT_FOUND"
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Gets the id of the code which is unique within the process.
+     *
+     * @return a non-negative id
+     */
+    public int id() {
+        return id;
+    }
+
+    /**
+     * Creates a violation with this code.
+     *
+     * @param message the message of the violation
+     * @return a new violation
+     */
+    public Violation violation(String message) {
+        return Violation.of(this, message, null);
+    }
+
+    /**
+     * Creates a violation with this code.
+     *
+     * @param message the message of the violation
+     * @param object the object of the violation
+     * @return a new violation
+     */
+    public Violation violation(String message, Object object) {
+        return Violation.of(this, message, object);
+    }
+
+    /**
+     * Gets the shared violation of this code and the message, creating it on first use.
+     *
+     * <p>Like the codes, shared violations are never removed, so the message should be a constant.</p>
+     *
+     * @param message the constant message of the violation
+     * @return the shared violation
+     */
+    public Violation constant(String message) {
+        if (message == null) {
+            Violation violation = constantWithoutMessage;
+            if (violation == null) {
+                synchronized (this) {
+                    violation = constantWithoutMessage;
+                    if (violation == null) {
+                        violation = constantWithoutMessage = Violation.of(this, null, null);
+                    }
+                }
+            }
+            return violation;
+        }
+
+        ConcurrentMap<String, Violation> map = constants;
+        if (map == null) {
+            synchronized (this) {
+                map = constants;
+                if (map == null) {
+                    map = constants = new ConcurrentHashMap<>();
+                }
+            }
+        }
+
+        Violation violation = map.get(message);
+        return violation != null
+                ? violation
+                : map.computeIfAbsent(message, key -> Violation.of(this, key, null));
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -4,7 +4,9 @@ package supernova.functional;
  * Represent object as a warning of {@link Result} that does not affect the operation of the {@link Result} but
  * is worth enough for developer to notice.
  *
- * <p>A warning only contains a message.</p>
+ * <p>A warning only contains a message. Unlike the message of a {@link Violation}, it is never lazy: a warning
+ * is a plain record, so it is resolved before the warning is created. A {@link ResultBuilder#deduplicate(int)
+ * deduplicated} result keeps equal warnings once, see {@link Result#occurrences(Warning)}.</p>
  *
  * @param message
  *
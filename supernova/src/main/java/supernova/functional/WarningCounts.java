@@ -0,0 +1,50 @@
+package supernova.functional;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * The distinct warnings of a deduplicated result with the number of their occurrences, see
+ * {@link Result#occurrences(Warning)}.
+ *
+ * @since 1.1.1
+ */
+final class WarningCounts extends AbstractList<Warning> implements RandomAccess {
+
+    private final Warning[] warnings;
+    private final long[] counts;
+
+    WarningCounts(Warning[] warnings, long[] counts) {
+        this.warnings = warnings;
+        this.counts = counts;
+    }
+
+    @Override
+    public Warning get(int index) {
+        return warnings[index];
+    }
+
+    @Override
+    public int size() {
+        return warnings.length;
+    }
+
+    /**
+     * Gets the number of occurrences of the warning at the index.
+     */
+    long count(int index) {
+        return counts[index];
+    }
+
+    /**
+     * Gets the number of occurrences of a warning, {@code 0} if it is not one of the warnings.
+     */
+    long occurrences(Warning warning) {
+        for (int i = 0; i < warnings.length; i++) {
+            if (warnings[i].equals(warning)) {
+                return counts[i];
+            }
+        }
+        return 0;
+    }
+}
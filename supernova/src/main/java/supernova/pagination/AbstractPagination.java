@@ -0,0 +1,182 @@
+package supernova.pagination;
+
+import java.util.AbstractList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * Skeleton of a {@link Pagination} over elements addressed by index.
+ *
+ * <p>Implementations provide the number of elements and random access to
+ * them; page arithmetic, bounds checks, page views and iteration are shared.
+ * Pages are {@link PageView}s which read through to the pagination, unless
+ * an implementation creates its own in {@link #page(int)}.
+ *
+ * @param <E> the type of elements contained in this pagination
+ * @since 1.1.1
+ */
+abstract class AbstractPagination<E> implements Pagination<E> {
+
+    final int pageSize;
+
+    /**
+     * Number of structural modifications, for fail-fast iteration.
+     */
+    int modCount;
+
+    AbstractPagination(int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be positive: " + pageSize);
+        }
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Gets the element at the index, which is already checked to be within
+     * {@code [0, size())}.
+     *
+     * @param index the index of the element
+     * @return the element
+     */
+    abstract E element(int index);
+
+    /**
+     * Replaces the element at the index, which is already checked to be
+     * within {@code [0, size())}.
+     *
+     * @param index the index of the element
+     * @param element the new element
+     * @return the previous element
+     * @throws UnsupportedOperationException if the pagination is read-only
+     */
+    E setElement(int index, E element) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int pageSize() {
+        return pageSize;
+    }
+
+    @Override
+    public int pageCount() {
+        int size = size();
+        return size / pageSize + (size % pageSize == 0 ? 0 : 1);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public Page<E> get(int pageNumber) {
+        checkPageNumber(pageNumber);
+        return page(pageNumber);
+    }
+
+    @Override
+    public Page<E> getFromIndex(int index) {
+        checkIndex(index);
+        return page(index / pageSize + 1);
+    }
+
+    /**
+     * Creates the page with the number, which is already checked to be within
+     * {@code [1, pageCount()]}.
+     *
+     * @param pageNumber the page number
+     * @return a view over the page
+     */
+    Page<E> page(int pageNumber) {
+        return new PageView<>(this, pageNumber);
+    }
+
+    @Override
+    public List<Page<E>> pages() {
+        return new Pages();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return iterator(0, size());
+    }
+
+    /**
+     * Iterates the elements in {@code [from, to)}, failing fast on
+     * structural modifications of the pagination.
+     *
+     * @param from the index of the first element
+     * @param to the index after the last element
+     * @return the iterator
+     */
+    Iterator<E> iterator(int from, int to) {
+        return new Itr(from, to);
+    }
+
+    final void checkPageNumber(int pageNumber) {
+        if (pageNumber < 1 || pageNumber > pageCount()) {
+            throw new IndexOutOfBoundsException("Page number: " + pageNumber + ", page count: " + pageCount());
+        }
+    }
+
+    final void checkIndex(int index) {
+        int size = size();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[size=" + size() + ", pageSize=" + pageSize
+                + ", pageCount=" + pageCount() + ']';
+    }
+
+    /**
+     * The pages of the pagination, created on access.
+     */
+    private final class Pages extends AbstractList<Page<E>> implements RandomAccess {
+
+        @Override
+        public Page<E> get(int index) {
+            return AbstractPagination.this.get(index + 1);
+        }
+
+        @Override
+        public int size() {
+            return pageCount();
+        }
+    }
+
+    private final class Itr implements Iterator<E> {
+
+        private int cursor;
+        private final int to;
+        private final int expectedModCount = modCount;
+
+        private Itr(int from, int to) {
+            this.cursor = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < to;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (cursor >= to) {
+                throw new NoSuchElementException();
+            }
+            return element(cursor++);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package supernova.pagination;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * A {@link Pagination} backed by one contiguous array.
+ *
+ * <p>Looking up a page by number or by element index, counting pages and
+ * accessing an element of a page are constant time and never copy
+ * elements: a page is a small view over a range of the array, see
+ * {@link Page}. Adding at the end is amortized constant time, while removing
+ * shifts the following elements.
+ *
+ * <p>Pages are live views: after an element is removed, the pages after it
+ * show the shifted elements. This pagination is not thread-safe.
+ *
+ * @param <E> the type of elements contained in this pagination
+ * @since 1.1.1
+ */
+public final class ArrayPagination<E> extends AbstractPagination<E> {
+
+    private static final Object[] EMPTY = {};
+
+    private Object[] elements;
+    private int size;
+
+    /**
+     * Creates an empty pagination.
+     *
+     * @param pageSize the maximum number of elements of a page
+     * @throws IllegalArgumentException if the page size is not positive
+     */
+    public ArrayPagination(int pageSize) {
+        super(pageSize);
+        this.elements = EMPTY;
+    }
+
+    /**
+     * Creates a pagination of the elements of a collection, in its iteration
+     * order.
+     *
+     * @param pageSize the maximum number of elements of a page
+     * @param elements the elements
+     * @throws IllegalArgumentException if the page size is not positive
+     */
+    public ArrayPagination(int pageSize, Collection<? extends E> elements) {
+        super(pageSize);
+        Object[] array = elements.toArray();
+        this.elements = array.getClass() == Object[].class
+                ? array
+                : Arrays.copyOf(array, array.length, Object[].class);
+        this.size = array.length;
+    }
+
+    /**
+     * Creates a pagination of the elements.
+     *
+     * @param pageSize the maximum number of elements of a page
+     * @param elements the elements
+     * @return the pagination
+     * @param <E> the type of elements
+     */
+    @SafeVarargs
+    public static <E> ArrayPagination<E> of(int pageSize, E... elements) {
+        ArrayPagination<E> pagination = new ArrayPagination<>(pageSize);
+        Object[] array = new Object[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            array[i] = elements[i];
+        }
+        pagination.elements = array;
+        pagination.size = elements.length;
+        return pagination;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    E element(int index) {
+        return (E) elements[index];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    E setElement(int index, E element) {
+        E previous = (E) elements[index];
+        elements[index] = element;
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean add(E element) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(8, size + (size >> 1)));
+        }
+        elements[size++] = element;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(E element) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(element, elements[i])) {
+                removeAt(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean remove(int index) {
+        checkIndex(index);
+        removeAt(index);
+        return true;
+    }
+
+    private void removeAt(int index) {
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        elements[--size] = null;
+        modCount++;
+    }
+
+    /**
+     * Gets the element at the index.
+     *
+     * @param index the index of the element
+     * @return the element
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         ({@code index < 0 || index >= size()})
+     */
+    public E getElement(int index) {
+        checkIndex(index);
+        return element(index);
+    }
+
+    /**
+     * Reduces the capacity of the backing array to the number of elements.
+     */
+    public void trimToSize() {
+        if (elements.length > size) {
+            elements = size == 0 ? EMPTY : Arrays.copyOf(elements, size);
+        }
+    }
+}
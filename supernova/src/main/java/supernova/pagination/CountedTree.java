@@ -0,0 +1,437 @@
+package supernova.pagination;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A B+-tree addressed by position, whose nodes count the elements beneath
+ * them.
+ *
+ * <p>Elements are stored in leaves of up to {@value #CAPACITY} elements;
+ * inner nodes hold up to {@value #CAPACITY} children and the number of
+ * elements of their subtree. Access, insertion and removal at a position
+ * descend a single path and are {@code O(log n)}. Nodes which fall below half
+ * of their capacity after a removal are merged with or refilled from a
+ * sibling, so the tree stays balanced under any mix of operations.
+ *
+ * <p>If the elements are kept sorted by a comparator, {@link #lowerBound}
+ * and {@link #upperBound} find positions by element in {@code O(log n)}
+ * comparisons per level.
+ *
+ * @param <E> the type of elements
+ * @since 1.1.1
+ */
+final class CountedTree<E> {
+
+    static final int CAPACITY = 64;
+    private static final int MIN = CAPACITY / 2;
+
+    private Node root = new Leaf();
+
+    int size() {
+        return root.size;
+    }
+
+    void clear() {
+        root = new Leaf();
+    }
+
+    @SuppressWarnings("unchecked")
+    E get(int index) {
+        Node node = root;
+
+        while (node instanceof Inner inner) {
+            int i = 0;
+            Node child;
+            while (index >= (child = inner.children[i]).size) {
+                index -= child.size;
+                i++;
+            }
+            node = child;
+        }
+
+        return (E) ((Leaf) node).elements[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    E set(int index, E element) {
+        Node node = root;
+
+        while (node instanceof Inner inner) {
+            int i = 0;
+            Node child;
+            while (index >= (child = inner.children[i]).size) {
+                index -= child.size;
+                i++;
+            }
+            node = child;
+        }
+
+        Object[] elements = ((Leaf) node).elements;
+        E previous = (E) elements[index];
+        elements[index] = element;
+        return previous;
+    }
+
+    void insert(int index, E element) {
+        Node split = insert(root, index, element);
+
+        if (split != null) {
+            Inner inner = new Inner();
+            inner.children[0] = root;
+            inner.children[1] = split;
+            inner.count = 2;
+            inner.size = root.size + split.size;
+            root = inner;
+        }
+    }
+
+    /**
+     * Inserts into the subtree.
+     *
+     * @return the new right sibling if the node was split, otherwise {@code null}
+     */
+    private static Node insert(Node node, int index, Object element) {
+        if (node instanceof Leaf leaf) {
+            if (leaf.size < CAPACITY) {
+                insertAt(leaf.elements, leaf.size, index, element);
+                leaf.size++;
+                return null;
+            }
+
+            Leaf right = new Leaf();
+            System.arraycopy(leaf.elements, MIN, right.elements, 0, CAPACITY - MIN);
+            Arrays.fill(leaf.elements, MIN, CAPACITY, null);
+            leaf.size = MIN;
+            right.size = CAPACITY - MIN;
+
+            if (index <= MIN) {
+                insertAt(leaf.elements, leaf.size++, index, element);
+            } else {
+                insertAt(right.elements, right.size++, index - MIN, element);
+            }
+            return right;
+        }
+
+        Inner inner = (Inner) node;
+        int i = 0;
+        while (i < inner.count - 1 && index > inner.children[i].size) {
+            index -= inner.children[i].size;
+            i++;
+        }
+
+        Node split = insert(inner.children[i], index, element);
+        inner.size++;
+
+        if (split == null) {
+            return null;
+        }
+
+        insertAt(inner.children, inner.count++, i + 1, split);
+
+        if (inner.count <= CAPACITY) {
+            return null;
+        }
+
+        Inner right = new Inner();
+        int moved = inner.count - MIN;
+        System.arraycopy(inner.children, MIN, right.children, 0, moved);
+        Arrays.fill(inner.children, MIN, inner.count, null);
+        inner.count = MIN;
+        right.count = moved;
+        right.size = sumSizes(right.children, moved);
+        inner.size -= right.size;
+        return right;
+    }
+
+    @SuppressWarnings("unchecked")
+    E remove(int index) {
+        Object removed = remove(root, index);
+
+        if (root instanceof Inner inner && inner.count == 1) {
+            root = inner.children[0];
+        }
+
+        return (E) removed;
+    }
+
+    private static Object remove(Node node, int index) {
+        if (node instanceof Leaf leaf) {
+            Object removed = leaf.elements[index];
+            removeAt(leaf.elements, leaf.size--, index);
+            return removed;
+        }
+
+        Inner inner = (Inner) node;
+        int i = 0;
+        Node child;
+        while (index >= (child = inner.children[i]).size) {
+            index -= child.size;
+            i++;
+        }
+
+        Object removed = remove(child, index);
+        inner.size--;
+
+        if (entries(child) < MIN && inner.count > 1) {
+            rebalance(inner, i == 0 ? 0 : i - 1);
+        }
+
+        return removed;
+    }
+
+    /**
+     * Merges the children at {@code i} and {@code i + 1}, or evens them out if
+     * they do not fit into one node.
+     */
+    private static void rebalance(Inner parent, int i) {
+        Node left = parent.children[i];
+        Node right = parent.children[i + 1];
+        int leftEntries = entries(left);
+        int rightEntries = entries(right);
+
+        if (leftEntries + rightEntries <= CAPACITY) {
+            if (left instanceof Leaf leftLeaf) {
+                System.arraycopy(((Leaf) right).elements, 0, leftLeaf.elements, leftEntries, rightEntries);
+            } else {
+                Inner leftInner = (Inner) left;
+                System.arraycopy(((Inner) right).children, 0, leftInner.children, leftEntries, rightEntries);
+                leftInner.count += rightEntries;
+            }
+            left.size += right.size;
+            removeAt(parent.children, parent.count--, i + 1);
+            return;
+        }
+
+        int target = (leftEntries + rightEntries) / 2;
+
+        if (left instanceof Leaf leftLeaf) {
+            Leaf rightLeaf = (Leaf) right;
+            if (leftEntries < target) {
+                int moved = target - leftEntries;
+                System.arraycopy(rightLeaf.elements, 0, leftLeaf.elements, leftEntries, moved);
+                System.arraycopy(rightLeaf.elements, moved, rightLeaf.elements, 0, rightEntries - moved);
+                Arrays.fill(rightLeaf.elements, rightEntries - moved, rightEntries, null);
+                leftLeaf.size += moved;
+                rightLeaf.size -= moved;
+            } else {
+                int moved = leftEntries - target;
+                System.arraycopy(rightLeaf.elements, 0, rightLeaf.elements, moved, rightEntries);
+                System.arraycopy(leftLeaf.elements, target, rightLeaf.elements, 0, moved);
+                Arrays.fill(leftLeaf.elements, target, leftEntries, null);
+                leftLeaf.size -= moved;
+                rightLeaf.size += moved;
+            }
+            return;
+        }
+
+        Inner leftInner = (Inner) left;
+        Inner rightInner = (Inner) right;
+        int moved;
+        if (leftEntries < target) {
+            moved = target - leftEntries;
+            int movedSize = sumSizes(rightInner.children, moved);
+            System.arraycopy(rightInner.children, 0, leftInner.children, leftEntries, moved);
+            System.arraycopy(rightInner.children, moved, rightInner.children, 0, rightEntries - moved);
+            Arrays.fill(rightInner.children, rightEntries - moved, rightEntries, null);
+            leftInner.count += moved;
+            rightInner.count -= moved;
+            leftInner.size += movedSize;
+            rightInner.size -= movedSize;
+        } else {
+            moved = leftEntries - target;
+            System.arraycopy(rightInner.children, 0, rightInner.children, moved, rightEntries);
+            System.arraycopy(leftInner.children, target, rightInner.children, 0, moved);
+            Arrays.fill(leftInner.children, target, leftEntries, null);
+            int movedSize = sumSizes(rightInner.children, moved);
+            leftInner.count -= moved;
+            rightInner.count += moved;
+            leftInner.size -= movedSize;
+            rightInner.size += movedSize;
+        }
+    }
+
+    /**
+     * Finds the position of the first element which is not less than the key,
+     * in a tree sorted by the comparator.
+     *
+     * @return the position, {@link #size()} if all elements are less
+     */
+    int lowerBound(E key, Comparator<? super E> comparator) {
+        return search(key, comparator, false);
+    }
+
+    /**
+     * Finds the position of the first element which is greater than the key,
+     * in a tree sorted by the comparator.
+     *
+     * @return the position, {@link #size()} if no element is greater
+     */
+    int upperBound(E key, Comparator<? super E> comparator) {
+        return search(key, comparator, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private int search(E key, Comparator<? super E> comparator, boolean upper) {
+        Node node = root;
+        int base = 0;
+
+        while (node instanceof Inner inner) {
+            // the last child whose first element is before the position
+            int low = 1;
+            int high = inner.count - 1;
+            int found = 0;
+
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (before((E) first(inner.children[mid]), key, comparator, upper)) {
+                    found = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+
+            for (int i = 0; i < found; i++) {
+                base += inner.children[i].size;
+            }
+            node = inner.children[found];
+        }
+
+        Leaf leaf = (Leaf) node;
+        int low = 0;
+        int high = leaf.size - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (before((E) leaf.elements[mid], key, comparator, upper)) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        return base + low;
+    }
+
+    private static <E> boolean before(E element, E key, Comparator<? super E> comparator, boolean upper) {
+        int comparison = comparator.compare(element, key);
+        return upper ? comparison <= 0 : comparison < 0;
+    }
+
+    private static Object first(Node node) {
+        while (node instanceof Inner inner) {
+            node = inner.children[0];
+        }
+        return ((Leaf) node).elements[0];
+    }
+
+    /**
+     * Iterates the elements in {@code [from, to)}, descending the tree once
+     * per leaf.
+     */
+    Iterator<E> iterator(int from, int to) {
+        return new RangeIterator(from, to);
+    }
+
+    private static int entries(Node node) {
+        return node instanceof Inner inner ? inner.count : node.size;
+    }
+
+    private static int sumSizes(Node[] nodes, int count) {
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            size += nodes[i].size;
+        }
+        return size;
+    }
+
+    private static void insertAt(Object[] array, int length, int index, Object element) {
+        System.arraycopy(array, index, array, index + 1, length - index);
+        array[index] = element;
+    }
+
+    private static void removeAt(Object[] array, int length, int index) {
+        System.arraycopy(array, index + 1, array, index, length - index - 1);
+        array[length - 1] = null;
+    }
+
+    private abstract static class Node {
+
+        /**
+         * Number of elements in the subtree.
+         */
+        int size;
+    }
+
+    private static final class Leaf extends Node {
+
+        final Object[] elements = new Object[CAPACITY];
+    }
+
+    private static final class Inner extends Node {
+
+        /**
+         * One extra slot for the child which overflows the node before it is split.
+         */
+        final Node[] children = new Node[CAPACITY + 1];
+        int count;
+    }
+
+    private final class RangeIterator implements Iterator<E> {
+
+        private final int to;
+        private int index;
+
+        private Object[] elements;
+        private int position;
+        private int limit;
+
+        private RangeIterator(int from, int to) {
+            this.index = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < to;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (index >= to) {
+                throw new NoSuchElementException();
+            }
+
+            if (position == limit) {
+                locate();
+            }
+
+            index++;
+            return (E) elements[position++];
+        }
+
+        private void locate() {
+            Node node = root;
+            int local = index;
+
+            while (node instanceof Inner inner) {
+                int i = 0;
+                Node child;
+                while (local >= (child = inner.children[i]).size) {
+                    local -= child.size;
+                    i++;
+                }
+                node = child;
+            }
+
+            Leaf leaf = (Leaf) node;
+            elements = leaf.elements;
+            position = local;
+            limit = leaf.size;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package supernova.pagination;
+
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+
+/**
+ * A {@link Page} of an {@link IntPagination}, with access to its elements as
+ * {@code int} values.
+ *
+ * <p>The methods inherited from {@link java.util.List} box the elements; the
+ * primitive methods read them without allocating.
+ *
+ * @since 1.1.1
+ */
+public interface IntPage extends Page<Integer> {
+
+    /**
+     * Gets the element at the index of this page.
+     *
+     * @param index the index within this page
+     * @return the element
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         ({@code index < 0 || index >= size()})
+     */
+    int getInt(int index);
+
+    /**
+     * Replaces the element at the index of this page.
+     *
+     * @param index the index within this page
+     * @param element the new element
+     * @return the previous element
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         ({@code index < 0 || index >= size()})
+     */
+    int setInt(int index, int element);
+
+    /**
+     * Iterates the elements of this page without boxing them.
+     *
+     * @return the iterator
+     */
+    PrimitiveIterator.OfInt intIterator();
+
+    /**
+     * Creates a sequential stream of the elements of this page.
+     *
+     * @return the stream
+     */
+    IntStream intStream();
+
+    /**
+     * Copies the elements of this page into a new array.
+     *
+     * @return the array
+     */
+    int[] toIntArray();
+
+    @Override
+    IntPagination pagination();
+
+    @Override
+    IntPage nextPage();
+
+    @Override
+    IntPage previousPage();
+}
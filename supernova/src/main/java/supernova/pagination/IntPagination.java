@@ -0,0 +1,352 @@
+package supernova.pagination;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.RandomAccess;
+import java.util.stream.IntStream;
+
+/**
+ * A {@link Pagination} of {@code int} values backed by one contiguous
+ * {@code int[]}.
+ *
+ * <p>This is {@link ArrayPagination} without boxing: each element takes four
+ * bytes instead of a reference to an {@link Integer}. The primitive methods,
+ * such as {@link #getInt(int)}, {@link #intIterator()} and
+ * {@link #intStream()}, and those of {@link IntPage} never box; the methods
+ * of the {@link Pagination} and {@link java.util.List} contracts box on
+ * access and reject {@code null}.
+ *
+ * <p>Pages are live views, as in {@link ArrayPagination}. This pagination is
+ * not thread-safe.
+ *
+ * @since 1.1.1
+ */
+public final class IntPagination extends AbstractPagination<Integer> {
+
+    private static final int[] EMPTY = {};
+
+    private int[] elements;
+    private int size;
+
+    /**
+     * Creates an empty pagination.
+     *
+     * @param pageSize the maximum number of elements of a page
+     * @throws IllegalArgumentException if the page size is not positive
+     */
+    public IntPagination(int pageSize) {
+        super(pageSize);
+        this.elements = EMPTY;
+    }
+
+    /**
+     * Creates a pagination of a copy of the elements.
+     *
+     * @param pageSize the maximum number of elements of a page
+     * @param elements the elements
+     * @return the pagination
+     * @throws IllegalArgumentException if the page size is not positive
+     */
+    public static IntPagination of(int pageSize, int... elements) {
+        IntPagination pagination = new IntPagination(pageSize);
+        pagination.elements = elements.clone();
+        pagination.size = elements.length;
+        return pagination;
+    }
+
+    @Override
+    Integer element(int index) {
+        return elements[index];
+    }
+
+    @Override
+    Integer setElement(int index, Integer element) {
+        int previous = elements[index];
+        elements[index] = element;
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public IntPage get(int pageNumber) {
+        checkPageNumber(pageNumber);
+        return page(pageNumber);
+    }
+
+    @Override
+    public IntPage getFromIndex(int index) {
+        checkIndex(index);
+        return page(index / pageSize + 1);
+    }
+
+    @Override
+    public IntPage getFirst() {
+        return get(1);
+    }
+
+    @Override
+    public IntPage getLast() {
+        return get(pageCount());
+    }
+
+    @Override
+    IntPage page(int pageNumber) {
+        return new View(pageNumber);
+    }
+
+    /**
+     * Gets the element at the index.
+     *
+     * @param index the index of the element
+     * @return the element
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         ({@code index < 0 || index >= size()})
+     */
+    public int getInt(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    /**
+     * Replaces the element at the index.
+     *
+     * @param index the index of the element
+     * @param element the new element
+     * @return the previous element
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         ({@code index < 0 || index >= size()})
+     */
+    public int setInt(int index, int element) {
+        checkIndex(index);
+        int previous = elements[index];
+        elements[index] = element;
+        return previous;
+    }
+
+    @Override
+    public boolean add(Integer element) {
+        return addInt(element);
+    }
+
+    /**
+     * Appends an element.
+     *
+     * @param element the element
+     * @return {@code true}
+     */
+    public boolean addInt(int element) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(8, size + (size >> 1)));
+        }
+        elements[size++] = element;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(Integer element) {
+        return element != null && removeInt(element);
+    }
+
+    /**
+     * Removes the first occurrence of an element.
+     *
+     * @param element the element
+     * @return {@code true} if removed
+     */
+    public boolean removeInt(int element) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == element) {
+                removeAt(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean remove(int index) {
+        checkIndex(index);
+        removeAt(index);
+        return true;
+    }
+
+    private void removeAt(int index) {
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        modCount++;
+    }
+
+    @Override
+    PrimitiveIterator.OfInt iterator(int from, int to) {
+        return new Itr(from, to);
+    }
+
+    /**
+     * Iterates the elements without boxing them.
+     *
+     * @return the iterator
+     */
+    public PrimitiveIterator.OfInt intIterator() {
+        return iterator(0, size);
+    }
+
+    /**
+     * Creates a sequential stream of the elements. The pagination must not
+     * be modified while the stream is used.
+     *
+     * @return the stream
+     */
+    public IntStream intStream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    /**
+     * Copies the elements into a new array.
+     *
+     * @return the array
+     */
+    public int[] toIntArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Reduces the capacity of the backing array to the number of elements.
+     */
+    public void trimToSize() {
+        if (elements.length > size) {
+            elements = size == 0 ? EMPTY : Arrays.copyOf(elements, size);
+        }
+    }
+
+    private final class Itr implements PrimitiveIterator.OfInt {
+
+        private int cursor;
+        private final int to;
+        private final int expectedModCount = modCount;
+
+        private Itr(int from, int to) {
+            this.cursor = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < to;
+        }
+
+        @Override
+        public int nextInt() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (cursor >= to) {
+                throw new NoSuchElementException();
+            }
+            return elements[cursor++];
+        }
+    }
+
+    /**
+     * A page which is a view over a range of the array, see {@link PageView}.
+     */
+    private final class View extends AbstractList<Integer> implements IntPage, RandomAccess {
+
+        private final int pageNumber;
+
+        private View(int pageNumber) {
+            this.pageNumber = pageNumber;
+        }
+
+        private int offset() {
+            return (pageNumber - 1) * pageSize;
+        }
+
+        private int toPaginationIndex(int index) {
+            int size = size();
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", page size: " + size);
+            }
+            return offset() + index;
+        }
+
+        @Override
+        public int getInt(int index) {
+            return elements[toPaginationIndex(index)];
+        }
+
+        @Override
+        public int setInt(int index, int element) {
+            int i = toPaginationIndex(index);
+            int previous = elements[i];
+            elements[i] = element;
+            return previous;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return getInt(index);
+        }
+
+        @Override
+        public Integer set(int index, Integer element) {
+            return setInt(index, element);
+        }
+
+        @Override
+        public int size() {
+            int remaining = size - offset();
+            return remaining <= 0 ? 0 : Math.min(remaining, pageSize);
+        }
+
+        @Override
+        public PrimitiveIterator.OfInt iterator() {
+            return intIterator();
+        }
+
+        @Override
+        public PrimitiveIterator.OfInt intIterator() {
+            int offset = offset();
+            return IntPagination.this.iterator(offset, offset + size());
+        }
+
+        @Override
+        public IntStream intStream() {
+            int offset = offset();
+            return Arrays.stream(elements, offset, offset + size());
+        }
+
+        @Override
+        public int[] toIntArray() {
+            int offset = offset();
+            return Arrays.copyOfRange(elements, offset, offset + size());
+        }
+
+        @Override
+        public int pageNumber() {
+            return pageNumber;
+        }
+
+        @Override
+        public IntPagination pagination() {
+            return IntPagination.this;
+        }
+
+        @Override
+        public IntPage nextPage() {
+            return IntPagination.this.get(pageNumber + 1);
+        }
+
+        @Override
+        public IntPage previousPage() {
+            return IntPagination.this.get(pageNumber - 1);
+        }
+    }
+}
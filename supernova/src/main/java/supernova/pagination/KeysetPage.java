@@ -0,0 +1,94 @@
+package supernova.pagination;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link Page} of a sorted {@link TreePagination} which was found by its
+ * keys instead of its offset.
+ *
+ * <p>A keyset page starts right after or ends right before a
+ * {@link Cursor}, see {@link TreePagination#after(Cursor)} and
+ * {@link TreePagination#before(Cursor)}. Seeking a cursor is
+ * {@code O(log n)} however deep the page is, and the next page follows the
+ * last element of this page even if elements were added or removed before
+ * it in the meantime, so scrolling neither repeats nor skips elements.
+ *
+ * <p>The page holds a snapshot of its elements and cannot be modified. Its
+ * {@link #pageNumber()} is the number of the offset page which contained its
+ * first element when it was read; keyset pages are not aligned to offset
+ * pages. An empty page ends the scroll: it has no cursors and no next or
+ * previous page.
+ *
+ * @param <E> the type of elements contained in this page
+ * @since 1.1.1
+ */
+public interface KeysetPage<E> extends Page<E> {
+
+    /**
+     * Gets the cursor of the first element.
+     *
+     * @return the cursor
+     * @throws NoSuchElementException if the page is empty
+     */
+    Cursor<E> firstCursor();
+
+    /**
+     * Gets the cursor of the last element.
+     *
+     * @return the cursor
+     * @throws NoSuchElementException if the page is empty
+     */
+    Cursor<E> lastCursor();
+
+    /**
+     * Gets the page after the last element of this page.
+     *
+     * @return the next page
+     * @throws IndexOutOfBoundsException if no element follows this page
+     */
+    @Override
+    KeysetPage<E> nextPage();
+
+    /**
+     * Gets the page before the first element of this page.
+     *
+     * @return the previous page
+     * @throws IndexOutOfBoundsException if no element precedes this page
+     */
+    @Override
+    KeysetPage<E> previousPage();
+
+    /**
+     * The position of an element in a sorted pagination, identified by its key
+     * rather than its index.
+     *
+     * <p>Applications treat cursors as opaque and hand them back to continue
+     * scrolling; to pass a cursor through an API, encode both components and
+     * recreate it with the constructor. A cursor whose element was removed
+     * still positions the page between its neighbours.
+     *
+     * <p>The ordinal tells elements apart which compare as equal, and is
+     * {@code 0} for a comparator which orders all elements, e.g. by a unique
+     * id after the sort key. Removing an element which compares as equal to
+     * the key and precedes the cursor's element shifts the cursor by one
+     * position.
+     *
+     * @param key the element
+     * @param ordinal the position of the element among the elements which
+     *        compare as equal to it
+     * @param <E> the type of the key
+     */
+    record Cursor<E>(E key, int ordinal) {
+
+        /**
+         * Creates a cursor.
+         *
+         * @throws IllegalArgumentException if the ordinal is negative
+         */
+        public Cursor {
+            if (ordinal < 0) {
+                throw new IllegalArgumentException("Ordinal must not be negative: " + ordinal);
+            }
+        }
+    }
+}
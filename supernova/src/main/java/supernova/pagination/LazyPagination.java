@@ -0,0 +1,354 @@
+package supernova.pagination;
+
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * A read-only {@link Pagination} whose pages are loaded from a
+ * {@link PageSource} on first access.
+ *
+ * <p>{@link #get(int)} loads the page if it was not loaded yet; concurrent
+ * requests for the same page share one load. {@link Page#nextPage()} of a
+ * lazily loaded page additionally starts loading the page after the next one
+ * in the background, on a new virtual thread by default, so that paging
+ * through sequentially overlaps reading a page with loading the next one.
+ *
+ * <p>Loaded pages are kept in a {@link PageCache}, which holds 64 pages
+ * unless another cache is given. Pages evicted from the cache are loaded
+ * again on their next access, while pages in use can be {@link #pin pinned}
+ * to keep them cached.
+ *
+ * <p>The number of elements is read from the source once, on first use. A
+ * page whose load failed is loaded again on the next access. The pagination
+ * cannot be modified, but it is thread-safe.
+ *
+ * @param <E> the type of elements contained in this pagination
+ * @since 1.1.1
+ */
+public final class LazyPagination<E> extends AbstractPagination<E> {
+
+    private static final Executor VIRTUAL_THREAD_EXECUTOR = command -> Thread.ofVirtual().start(command);
+
+    private final PageSource<E> source;
+    private final PageCache<E> cache;
+    private final Executor prefetchExecutor;
+
+    /**
+     * Pages being loaded, by page number; a page leaves the map once it is
+     * in the cache.
+     */
+    private final ConcurrentHashMap<Integer, CompletableFuture<List<E>>> loading = new ConcurrentHashMap<>();
+
+    /**
+     * Number of elements, {@code -1} until read from the source.
+     */
+    private volatile int size = -1;
+
+    /**
+     * Creates a pagination which prefetches on virtual threads.
+     *
+     * @param source the source of the elements
+     * @param pageSize the maximum number of elements of a page
+     * @throws IllegalArgumentException if the page size is not positive
+     */
+    public LazyPagination(PageSource<E> source, int pageSize) {
+        this(source, pageSize, PageCache.ofPages(64), VIRTUAL_THREAD_EXECUTOR);
+    }
+
+    /**
+     * Creates a pagination which keeps its pages in the cache and prefetches
+     * on virtual threads.
+     *
+     * @param source the source of the elements
+     * @param pageSize the maximum number of elements of a page
+     * @param cache the cache of the loaded pages, not used by any other pagination
+     * @throws IllegalArgumentException if the page size is not positive, or
+     *         the cache is used by another pagination
+     */
+    public LazyPagination(PageSource<E> source, int pageSize, PageCache<E> cache) {
+        this(source, pageSize, cache, VIRTUAL_THREAD_EXECUTOR);
+    }
+
+    /**
+     * Creates a pagination which prefetches on the executor.
+     *
+     * @param source the source of the elements
+     * @param pageSize the maximum number of elements of a page
+     * @param prefetchExecutor the executor which loads pages in the background
+     * @throws IllegalArgumentException if the page size is not positive
+     */
+    public LazyPagination(PageSource<E> source, int pageSize, Executor prefetchExecutor) {
+        this(source, pageSize, PageCache.ofPages(64), prefetchExecutor);
+    }
+
+    /**
+     * Creates a pagination which keeps its pages in the cache and prefetches
+     * on the executor.
+     *
+     * @param source the source of the elements
+     * @param pageSize the maximum number of elements of a page
+     * @param cache the cache of the loaded pages, not used by any other pagination
+     * @param prefetchExecutor the executor which loads pages in the background
+     * @throws IllegalArgumentException if the page size is not positive, or
+     *         the cache is used by another pagination
+     */
+    public LazyPagination(PageSource<E> source, int pageSize, PageCache<E> cache, Executor prefetchExecutor) {
+        super(pageSize);
+        this.source = Objects.requireNonNull(source, "source");
+        this.cache = Objects.requireNonNull(cache, "cache");
+        this.prefetchExecutor = Objects.requireNonNull(prefetchExecutor, "prefetchExecutor");
+        cache.bind(this);
+    }
+
+    /**
+     * Gets the cache of the loaded pages.
+     *
+     * @return the cache
+     */
+    public PageCache<E> cache() {
+        return cache;
+    }
+
+    @Override
+    public int size() {
+        int size = this.size;
+        if (size < 0) {
+            size = this.size = source.size();
+        }
+        return size;
+    }
+
+    @Override
+    E element(int index) {
+        return load(index / pageSize + 1).get(index % pageSize);
+    }
+
+    @Override
+    Page<E> page(int pageNumber) {
+        return new LoadedPage(pageNumber, load(pageNumber));
+    }
+
+    /**
+     * Iterates page by page, so that each page is fetched from the cache
+     * once, and starts loading the next page when entering a page.
+     */
+    @Override
+    Iterator<E> iterator(int from, int to) {
+        return new Iterator<>() {
+            private int cursor = from;
+            private List<E> elements;
+            private int pageStart;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < to;
+            }
+
+            @Override
+            public E next() {
+                if (cursor >= to) {
+                    throw new NoSuchElementException();
+                }
+
+                if (elements == null || cursor - pageStart >= elements.size()) {
+                    int pageNumber = cursor / pageSize + 1;
+                    pageStart = (pageNumber - 1) * pageSize;
+                    elements = load(pageNumber);
+                    if (pageStart + pageSize < to) {
+                        prefetch(pageNumber + 1);
+                    }
+                }
+
+                return elements.get(cursor++ - pageStart);
+            }
+        };
+    }
+
+    /**
+     * Starts loading the page in the background if it was not loaded yet.
+     *
+     * @param pageNumber the page number
+     * @return {@code true} if the page exists
+     */
+    public boolean prefetch(int pageNumber) {
+        if (pageNumber < 1 || pageNumber > pageCount()) {
+            return false;
+        }
+
+        if (!loading.containsKey(pageNumber) && !cache.contains(pageNumber)) {
+            CompletableFuture<List<E>> future = new CompletableFuture<>();
+            if (loading.putIfAbsent(pageNumber, future) == null) {
+                try {
+                    prefetchExecutor.execute(() -> complete(pageNumber, future));
+                } catch (RuntimeException e) {
+                    loading.remove(pageNumber, future);
+                    future.completeExceptionally(e);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the page is loaded and cached, without loading it.
+     *
+     * @param pageNumber the page number
+     * @return {@code true} if the page is in the cache
+     */
+    public boolean isLoaded(int pageNumber) {
+        return cache.contains(pageNumber);
+    }
+
+    /**
+     * Gets a page and pins it in the cache, so that it is not evicted until
+     * {@link #unpin(int) unpinned}.
+     *
+     * @param pageNumber the page number
+     * @return the page
+     * @throws IndexOutOfBoundsException if the page number is less than
+     *         {@code 1} or greater than {@code pageCount()}
+     */
+    public Page<E> pin(int pageNumber) {
+        checkPageNumber(pageNumber);
+        List<E> elements = load(pageNumber);
+        cache.pin(pageNumber, elements);
+        return new LoadedPage(pageNumber, elements);
+    }
+
+    /**
+     * Unpins a page pinned by {@link #pin(int)}.
+     *
+     * @param pageNumber the page number
+     * @return {@code false} if the page was not pinned
+     */
+    public boolean unpin(int pageNumber) {
+        return cache.unpin(pageNumber);
+    }
+
+    /**
+     * Gets the elements of the page, loading them on the calling thread or
+     * waiting for a load in progress.
+     */
+    private List<E> load(int pageNumber) {
+        List<E> cached = cache.get(pageNumber);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<List<E>> future = loading.get(pageNumber);
+
+        if (future == null) {
+            CompletableFuture<List<E>> created = new CompletableFuture<>();
+            future = loading.putIfAbsent(pageNumber, created);
+            if (future == null) {
+                // another load may have completed between the cache lookup and the registration
+                cached = cache.peek(pageNumber);
+                if (cached != null) {
+                    loading.remove(pageNumber, created);
+                    created.complete(cached);
+                    return cached;
+                }
+                future = complete(pageNumber, created);
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private CompletableFuture<List<E>> complete(int pageNumber, CompletableFuture<List<E>> future) {
+        try {
+            int offset = (pageNumber - 1) * pageSize;
+            List<E> elements = Collections.unmodifiableList(source.load(offset, pageSize));
+            cache.put(pageNumber, elements);
+            loading.remove(pageNumber, future);
+            future.complete(elements);
+        } catch (Throwable e) {
+            loading.remove(pageNumber, future);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    @Override
+    public boolean add(E element) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(E element) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * A page over its loaded elements.
+     */
+    private final class LoadedPage extends AbstractList<E> implements Page<E>, RandomAccess {
+
+        private final int pageNumber;
+        private final List<E> elements;
+
+        private LoadedPage(int pageNumber, List<E> elements) {
+            this.pageNumber = pageNumber;
+            this.elements = elements;
+        }
+
+        @Override
+        public E get(int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+        @Override
+        public int pageNumber() {
+            return pageNumber;
+        }
+
+        @Override
+        public Pagination<E> pagination() {
+            return LazyPagination.this;
+        }
+
+        /**
+         * Gets the next page and starts loading the page after it.
+         */
+        @Override
+        public Page<E> nextPage() {
+            Page<E> next = LazyPagination.this.get(pageNumber + 1);
+            prefetch(pageNumber + 2);
+            return next;
+        }
+
+        @Override
+        public Page<E> previousPage() {
+            return LazyPagination.this.get(pageNumber - 1);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package supernova.pagination;
+
+import java.util.PrimitiveIterator;
+import java.util.stream.LongStream;
+
+/**
+ * A {@link Page} of an {@link LongPagination}, with access to its elements as
+ * {@code long} values.
+ *
+ * <p>The methods inherited from {@link java.util.List} box the elements; the
+ * primitive methods read them without allocating.
+ *
+ * @since 1.1.1
+ */
+public interface LongPage extends Page<Long> {
+
+    /**
+     * Gets the element at the index of this page.
+     *
+     * @param index the index within this page
+     * @return the element
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         ({@code index < 0 || index >= size()})
+     */
+    long getLong(int index);
+
+    /**
+     * Replaces the element at the index of this page.
+     *
+     * @param index the index within this page
+     * @param element the new element
+     * @return the previous element
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         ({@code index < 0 || index >= size()})
+     */
+    long setLong(int index, long element);
+
+    /**
+     * Iterates the elements of this page without boxing them.
+     *
+     * @return the iterator
+     */
+    PrimitiveIterator.OfLong longIterator();
+
+    /**
+     * Creates a sequential stream of the elements of this page.
+     *
+     * @return the stream
+     */
+    LongStream longStream();
+
+    /**
+     * Copies the elements of this page into a new array.
+     *
+     * @return the array
+     */
+    long[] toLongArray();
+
+    @Override
+    LongPagination pagination();
+
+    @Override
+    LongPage nextPage();
+
+    @Override
+    LongPage previousPage();
+}
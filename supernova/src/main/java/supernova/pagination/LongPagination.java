@@ -0,0 +1,352 @@
+package supernova.pagination;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.RandomAccess;
+import java.util.stream.LongStream;
+
+/**
+ * A {@link Pagination} of {@code long} values backed by one contiguous
+ * {@code long[]}.
+ *
+ * <p>This is {@link ArrayPagination} without boxing: each element takes eight
+ * bytes instead of a reference to an {@link Long}. The primitive methods,
+ * such as {@link #getLong(int)}, {@link #longIterator()} and
+ * {@link #longStream()}, and those of {@link LongPage} never box; the methods
+ * of the {@link Pagination} and {@link java.util.List} contracts box on
+ * access and reject {@code null}.
+ *
+ * <p>Pages are live views, as in {@link ArrayPagination}. This pagination is
+ * not thread-safe.
+ *
+ * @since 1.1.1
+ */
+public final class LongPagination extends AbstractPagination<Long> {
+
+    private static final long[] EMPTY = {};
+
+    private long[] elements;
+    private int size;
+
+    /**
+     * Creates an empty pagination.
+     *
+     * @param pageSize the maximum number of elements of a page
+     * @throws IllegalArgumentException if the page size is not positive
+     */
+    public LongPagination(int pageSize) {
+        super(pageSize);
+        this.elements = EMPTY;
+    }
+
+    /**
+     * Creates a pagination of a copy of the elements.
+     *
+     * @param pageSize the maximum number of elements of a page
+     * @param elements the elements
+     * @return the pagination
+     * @throws IllegalArgumentException if the page size is not positive
+     */
+    public static LongPagination of(int pageSize, long... elements) {
+        LongPagination pagination = new LongPagination(pageSize);
+        pagination.elements = elements.clone();
+        pagination.size = elements.length;
+        return pagination;
+    }
+
+    @Override
+    Long element(int index) {
+        return elements[index];
+    }
+
+    @Override
+    Long setElement(int index, Long element) {
+        long previous = elements[index];
+        elements[index] = element;
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public LongPage get(int pageNumber) {
+        checkPageNumber(pageNumber);
+        return page(pageNumber);
+    }
+
+    @Override
+    public LongPage getFromIndex(int index) {
+        checkIndex(index);
+        return page(index / pageSize + 1);
+    }
+
+    @Override
+    public LongPage getFirst() {
+        return get(1);
+    }
+
+    @Override
+    public LongPage getLast() {
+        return get(pageCount());
+    }
+
+    @Override
+    LongPage page(int pageNumber) {
+        return new View(pageNumber);
+    }
+
+    /**
+     * Gets the element at the index.
+     *
+     * @param index the index of the element
+     * @return the element
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         ({@code index < 0 || index >= size()})
+     */
+    public long getLong(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    /**
+     * Replaces the element at the index.
+     *
+     * @param index the index of the element
+     * @param element the new element
+     * @return the previous element
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         ({@code index < 0 || index >= size()})
+     */
+    public long setLong(int index, long element) {
+        checkIndex(index);
+        long previous = elements[index];
+        elements[index] = element;
+        return previous;
+    }
+
+    @Override
+    public boolean add(Long element) {
+        return addLong(element);
+    }
+
+    /**
+     * Appends an element.
+     *
+     * @param element the element
+     * @return {@code true}
+     */
+    public boolean addLong(long element) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(8, size + (size >> 1)));
+        }
+        elements[size++] = element;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(Long element) {
+        return element != null && removeLong(element);
+    }
+
+    /**
+     * Removes the first occurrence of an element.
+     *
+     * @param element the element
+     * @return {@code true} if removed
+     */
+    public boolean removeLong(long element) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == element) {
+                removeAt(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean remove(int index) {
+        checkIndex(index);
+        removeAt(index);
+        return true;
+    }
+
+    private void removeAt(int index) {
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        modCount++;
+    }
+
+    @Override
+    PrimitiveIterator.OfLong iterator(int from, int to) {
+        return new Itr(from, to);
+    }
+
+    /**
+     * Iterates the elements without boxing them.
+     *
+     * @return the iterator
+     */
+    public PrimitiveIterator.OfLong longIterator() {
+        return iterator(0, size);
+    }
+
+    /**
+     * Creates a sequential stream of the elements. The pagination must not
+     * be modified while the stream is used.
+     *
+     * @return the stream
+     */
+    public LongStream longStream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    /**
+     * Copies the elements into a new array.
+     *
+     * @return the array
+     */
+    public long[] toLongArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Reduces the capacity of the backing array to the number of elements.
+     */
+    public void trimToSize() {
+        if (elements.length > size) {
+            elements = size == 0 ? EMPTY : Arrays.copyOf(elements, size);
+        }
+    }
+
+    private final class Itr implements PrimitiveIterator.OfLong {
+
+        private int cursor;
+        private final int to;
+        private final int expectedModCount = modCount;
+
+        private Itr(int from, int to) {
+            this.cursor = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < to;
+        }
+
+        @Override
+        public long nextLong() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (cursor >= to) {
+                throw new NoSuchElementException();
+            }
+            return elements[cursor++];
+        }
+    }
+
+    /**
+     * A page which is a view over a range of the array, see {@link PageView}.
+     */
+    private final class View extends AbstractList<Long> implements LongPage, RandomAccess {
+
+        private final int pageNumber;
+
+        private View(int pageNumber) {
+            this.pageNumber = pageNumber;
+        }
+
+        private int offset() {
+            return (pageNumber - 1) * pageSize;
+        }
+
+        private int toPaginationIndex(int index) {
+            int size = size();
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", page size: " + size);
+            }
+            return offset() + index;
+        }
+
+        @Override
+        public long getLong(int index) {
+            return elements[toPaginationIndex(index)];
+        }
+
+        @Override
+        public long setLong(int index, long element) {
+            int i = toPaginationIndex(index);
+            long previous = elements[i];
+            elements[i] = element;
+            return previous;
+        }
+
+        @Override
+        public Long get(int index) {
+            return getLong(index);
+        }
+
+        @Override
+        public Long set(int index, Long element) {
+            return setLong(index, element);
+        }
+
+        @Override
+        public int size() {
+            int remaining = size - offset();
+            return remaining <= 0 ? 0 : Math.min(remaining, pageSize);
+        }
+
+        @Override
+        public PrimitiveIterator.OfLong iterator() {
+            return longIterator();
+        }
+
+        @Override
+        public PrimitiveIterator.OfLong longIterator() {
+            int offset = offset();
+            return LongPagination.this.iterator(offset, offset + size());
+        }
+
+        @Override
+        public LongStream longStream() {
+            int offset = offset();
+            return Arrays.stream(elements, offset, offset + size());
+        }
+
+        @Override
+        public long[] toLongArray() {
+            int offset = offset();
+            return Arrays.copyOfRange(elements, offset, offset + size());
+        }
+
+        @Override
+        public int pageNumber() {
+            return pageNumber;
+        }
+
+        @Override
+        public LongPagination pagination() {
+            return LongPagination.this;
+        }
+
+        @Override
+        public LongPage nextPage() {
+            return LongPagination.this.get(pageNumber + 1);
+        }
+
+        @Override
+        public LongPage previousPage() {
+            return LongPagination.this.get(pageNumber - 1);
+        }
+    }
+}
@@ -0,0 +1,533 @@
+package supernova.pagination;
+
+import supernova.codec.ValueCodec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An append-only {@link Pagination} whose elements are encoded into a
+ * memory-mapped file, for data sets larger than the heap.
+ *
+ * <p>Elements are encoded by a {@link ValueCodec}, either with a fixed width
+ * or prefixed with their length. The pagination keeps the offset of every
+ * page in a second mapped file, the page index, next to the data file, so
+ * {@link #get(int)} is constant time. A page decodes its elements from the
+ * mapped memory only when they are accessed; only the offsets of the elements
+ * of a page with length-prefixed elements are kept on the heap while the page
+ * is used.
+ *
+ * <p>The files outlive the process: opening an existing file with the same
+ * page size and element width continues where it was closed, without
+ * reading the data. The files grow in chunks of 64 MiB while the pagination
+ * is open, and {@link #close()} unmaps them and cuts them to their content.
+ * The operating system writes the mapped data back to the files on its own
+ * schedule; {@link #force()} writes it immediately.
+ *
+ * <p>Elements cannot be removed or replaced. This pagination is not
+ * thread-safe, and neither the pagination nor its pages can be used after it
+ * is closed.
+ *
+ * @param <E> the type of elements contained in this pagination
+ * @since 1.1.1
+ */
+public final class MappedPagination<E> extends AbstractPagination<E> implements Closeable {
+
+    private static final int MAGIC = 0x534E5047;
+    private static final int VERSION = 1;
+
+    private static final int PAGE_SIZE_OFFSET = 8;
+    private static final int WIDTH_OFFSET = 12;
+    private static final int SIZE_OFFSET = 16;
+    private static final int DATA_END_OFFSET = 24;
+    private static final int HEADER_SIZE = 32;
+
+    /**
+     * Length of a {@code null} element.
+     */
+    private static final int NULL = -1;
+
+    /**
+     * Length marking the unused end of a chunk.
+     */
+    private static final int SKIP = -2;
+
+    private final MappedRegion data;
+    private final MappedRegion index;
+    private final ValueCodec<E> codec;
+
+    /**
+     * Width of an element in bytes, {@code 0} if elements are length-prefixed.
+     */
+    private final int width;
+
+    private int size;
+    private long dataEnd;
+    private boolean closed;
+
+    private MappedPagination(MappedRegion data, MappedRegion index, int pageSize, ValueCodec<E> codec, int width) {
+        super(pageSize);
+        this.data = data;
+        this.index = index;
+        this.codec = codec;
+        this.width = width;
+    }
+
+    /**
+     * Opens or creates a pagination of length-prefixed elements.
+     *
+     * <p>The page index is stored in a file named like the data file, with
+     * the suffix {@code .index}.
+     *
+     * @param file the data file
+     * @param pageSize the maximum number of elements of a page
+     * @param codec the codec of the elements
+     * @return the pagination
+     * @param <E> the type of elements
+     * @throws IOException if the files cannot be opened or mapped
+     * @throws IllegalArgumentException if the page size is not positive, or
+     *         the existing files were created with another page size or
+     *         element width
+     */
+    public static <E> MappedPagination<E> open(Path file, int pageSize, ValueCodec<E> codec) throws IOException {
+        return open(file, pageSize, codec, 0);
+    }
+
+    /**
+     * Opens or creates a pagination of elements which are all encoded into
+     * the same number of bytes. Elements are addressed directly and
+     * {@code null} elements are not allowed.
+     *
+     * @param file the data file
+     * @param pageSize the maximum number of elements of a page
+     * @param codec the codec of the elements
+     * @param width the number of bytes of every encoded element
+     * @return the pagination
+     * @param <E> the type of elements
+     * @throws IOException if the files cannot be opened or mapped
+     * @throws IllegalArgumentException if the page size or width is not
+     *         positive, or the existing files were created with another page
+     *         size or element width
+     */
+    public static <E> MappedPagination<E> openFixedWidth(Path file, int pageSize, ValueCodec<E> codec, int width)
+            throws IOException {
+        if (width < 1 || width > MappedRegion.CHUNK_SIZE) {
+            throw new IllegalArgumentException("Width out of range: " + width);
+        }
+        return open(file, pageSize, codec, width);
+    }
+
+    private static <E> MappedPagination<E> open(Path file, int pageSize, ValueCodec<E> codec, int width)
+            throws IOException {
+        Objects.requireNonNull(codec, "codec");
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be positive: " + pageSize);
+        }
+
+        Path indexFile = file.resolveSibling(file.getFileName() + ".index");
+        boolean dataCreated = Files.notExists(file);
+        boolean indexCreated = Files.notExists(indexFile);
+
+        MappedRegion data = new MappedRegion(file);
+        MappedRegion index;
+        try {
+            index = new MappedRegion(indexFile);
+        } catch (IOException | RuntimeException e) {
+            data.close();
+            deleteCreated(file, dataCreated, e);
+            throw e;
+        }
+
+        long indexSize = -1;
+        try {
+            indexSize = index.fileSize();
+            boolean exists = indexSize >= HEADER_SIZE;
+            MappedPagination<E> pagination = new MappedPagination<>(data, index, pageSize, codec, width);
+
+            if (exists) {
+                pagination.readHeader();
+            } else {
+                index.putInt(0, MAGIC);
+                index.putInt(4, VERSION);
+                index.putInt(PAGE_SIZE_OFFSET, pageSize);
+                index.putInt(WIDTH_OFFSET, width);
+                pagination.writeHeader();
+            }
+            return pagination;
+        } catch (IOException | RuntimeException e) {
+            data.close();
+            if (indexSize < 0) {
+                index.close();
+            } else {
+                // mapping the header extended the file
+                index.close(indexSize);
+            }
+            deleteCreated(file, dataCreated, e);
+            deleteCreated(indexFile, indexCreated, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Deletes a file which failed opening created, so that it does not look
+     * like an existing pagination on the next attempt.
+     */
+    private static void deleteCreated(Path file, boolean created, Exception failure) {
+        if (created) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                failure.addSuppressed(e);
+            }
+        }
+    }
+
+    private void readHeader() throws IOException {
+        if (index.getInt(0) != MAGIC || index.getInt(4) != VERSION) {
+            throw new IOException("Not a page index of a mapped pagination");
+        }
+        if (index.getInt(PAGE_SIZE_OFFSET) != pageSize || index.getInt(WIDTH_OFFSET) != width) {
+            throw new IllegalArgumentException("Pagination was created with page size "
+                    + index.getInt(PAGE_SIZE_OFFSET) + " and width " + index.getInt(WIDTH_OFFSET));
+        }
+        size = (int) index.getLong(SIZE_OFFSET);
+        dataEnd = index.getLong(DATA_END_OFFSET);
+
+        if (data.fileSize() < dataEnd) {
+            throw new IOException("Data file has " + data.fileSize() + " bytes, but the page index records "
+                    + dataEnd);
+        }
+    }
+
+    private void writeHeader() {
+        index.putLong(SIZE_OFFSET, size);
+        index.putLong(DATA_END_OFFSET, dataEnd);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Appends an element.
+     *
+     * @param element the instance of the element
+     * @return {@code true}
+     * @throws IllegalArgumentException if the encoded element does not have
+     *         the fixed width, or does not fit into a chunk of the file
+     * @throws NullPointerException if the element is {@code null} and the
+     *         elements have a fixed width
+     * @throws IllegalStateException if the pagination is full or closed
+     */
+    @Override
+    public boolean add(E element) {
+        ensureOpen();
+        if (size == Integer.MAX_VALUE) {
+            throw new IllegalStateException("Pagination is full");
+        }
+
+        if (width > 0) {
+            Objects.requireNonNull(element, "element");
+            int length = codec.size(element);
+            if (length != width) {
+                throw new IllegalArgumentException("Encoded element has " + length + " bytes instead of " + width);
+            }
+            long position = fixedPosition(size);
+            codec.write(element, data.slice(position, width));
+            dataEnd = position + width;
+        } else {
+            addPrefixed(element);
+        }
+
+        size++;
+        writeHeader();
+        modCount++;
+        return true;
+    }
+
+    private void addPrefixed(E element) {
+        int length = element == null ? 0 : codec.size(element);
+        if (length > MappedRegion.CHUNK_SIZE - Integer.BYTES) {
+            throw new IllegalArgumentException("Encoded element is too large: " + length + " bytes");
+        }
+
+        long position = dataEnd;
+        int remaining = MappedRegion.remainingInChunk(position);
+        if (Integer.BYTES + length > remaining) {
+            if (remaining >= Integer.BYTES) {
+                data.putInt(position, SKIP);
+            }
+            position += remaining;
+        }
+
+        if (element == null) {
+            data.putInt(position, NULL);
+        } else {
+            data.putInt(position, length);
+            codec.write(element, data.slice(position + Integer.BYTES, length));
+        }
+
+        if (size % pageSize == 0) {
+            index.putLong(HEADER_SIZE + (long) (size / pageSize) * Long.BYTES, position);
+        }
+
+        dataEnd = position + Integer.BYTES + length;
+    }
+
+    @Override
+    public boolean remove(E element) {
+        throw new UnsupportedOperationException("Mapped pagination is append-only");
+    }
+
+    @Override
+    public boolean remove(int index) {
+        throw new UnsupportedOperationException("Mapped pagination is append-only");
+    }
+
+    /**
+     * Gets the element at the index.
+     *
+     * @param index the index of the element
+     * @return the element
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         ({@code index < 0 || index >= size()})
+     */
+    public E getElement(int index) {
+        checkIndex(index);
+        return element(index);
+    }
+
+    @Override
+    E element(int index) {
+        ensureOpen();
+
+        if (width > 0) {
+            return decodeFixed(index);
+        }
+
+        return decodePrefixed(locate(index));
+    }
+
+    @Override
+    Page<E> page(int pageNumber) {
+        ensureOpen();
+        return new MappedPage(pageNumber);
+    }
+
+    @Override
+    Iterator<E> iterator(int from, int to) {
+        ensureOpen();
+        int expectedModCount = modCount;
+
+        return new Iterator<>() {
+            private int cursor = from;
+            private long position = width == 0 && from < to ? locate(from) : 0;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < to;
+            }
+
+            @Override
+            public E next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (cursor >= to) {
+                    throw new NoSuchElementException();
+                }
+                ensureOpen();
+
+                if (width > 0) {
+                    return decodeFixed(cursor++);
+                }
+
+                position = skipPadding(position);
+                E element = decodePrefixed(position);
+                if (++cursor < to) {
+                    position = MappedPagination.this.next(position);
+                }
+                return element;
+            }
+        };
+    }
+
+    /**
+     * Writes the mapped data to the storage device.
+     */
+    public void force() {
+        ensureOpen();
+        data.force();
+        index.force();
+    }
+
+    /**
+     * Writes the mapped data, unmaps it, cuts the files to their content and
+     * closes them. Pages and buffers of the pagination fail once it is
+     * closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try {
+            data.close(dataEnd);
+        } finally {
+            index.close(width > 0 ? HEADER_SIZE : HEADER_SIZE + (long) pageCount() * Long.BYTES);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Pagination is closed");
+        }
+    }
+
+    private long fixedPosition(int index) {
+        int perChunk = MappedRegion.CHUNK_SIZE / width;
+        return (long) (index / perChunk) * MappedRegion.CHUNK_SIZE + (long) (index % perChunk) * width;
+    }
+
+    private E decodeFixed(int index) {
+        return codec.read(data.slice(fixedPosition(index), width), width);
+    }
+
+    private long pageStart(int pageIndex) {
+        return index.getLong(HEADER_SIZE + (long) pageIndex * Long.BYTES);
+    }
+
+    /**
+     * Finds the position of a length-prefixed element.
+     */
+    private long locate(int elementIndex) {
+        long position = pageStart(elementIndex / pageSize);
+        for (int i = elementIndex % pageSize; i > 0; i--) {
+            position = next(position);
+        }
+        return position;
+    }
+
+    /**
+     * Moves a position at the unused end of a chunk to the start of the next
+     * chunk.
+     */
+    private long skipPadding(long position) {
+        int remaining = MappedRegion.remainingInChunk(position);
+        if (remaining < Integer.BYTES || data.getInt(position) == SKIP) {
+            return position + remaining;
+        }
+        return position;
+    }
+
+    /**
+     * Gets the position after the length-prefixed element at the position.
+     */
+    private long next(long position) {
+        position = skipPadding(position);
+        int length = data.getInt(position);
+        return skipPadding(position + Integer.BYTES + Math.max(length, 0));
+    }
+
+    private E decodePrefixed(long position) {
+        position = skipPadding(position);
+        int length = data.getInt(position);
+        if (length == NULL) {
+            return null;
+        }
+        return codec.read(data.slice(position + Integer.BYTES, length), length);
+    }
+
+    /**
+     * A page which decodes its elements on access.
+     */
+    private final class MappedPage extends AbstractList<E> implements Page<E>, RandomAccess {
+
+        private final int pageNumber;
+
+        /**
+         * Positions of the length-prefixed elements found so far.
+         */
+        private long[] positions;
+        private int found;
+
+        private MappedPage(int pageNumber) {
+            this.pageNumber = pageNumber;
+        }
+
+        private int offset() {
+            return (pageNumber - 1) * pageSize;
+        }
+
+        @Override
+        public E get(int i) {
+            int size = size();
+            if (i < 0 || i >= size) {
+                throw new IndexOutOfBoundsException("Index: " + i + ", page size: " + size);
+            }
+            ensureOpen();
+
+            if (width > 0) {
+                return decodeFixed(offset() + i);
+            }
+
+            if (positions == null) {
+                positions = new long[size];
+                positions[0] = pageStart(pageNumber - 1);
+                found = 1;
+            } else if (positions.length < size) {
+                positions = Arrays.copyOf(positions, size);
+            }
+
+            while (found <= i) {
+                positions[found] = next(positions[found - 1]);
+                found++;
+            }
+            return decodePrefixed(positions[i]);
+        }
+
+        @Override
+        public int size() {
+            int remaining = MappedPagination.this.size - offset();
+            return remaining <= 0 ? 0 : Math.min(remaining, pageSize);
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            int offset = offset();
+            return MappedPagination.this.iterator(offset, offset + size());
+        }
+
+        @Override
+        public int pageNumber() {
+            return pageNumber;
+        }
+
+        @Override
+        public Pagination<E> pagination() {
+            return MappedPagination.this;
+        }
+
+        @Override
+        public Page<E> nextPage() {
+            return MappedPagination.this.get(pageNumber + 1);
+        }
+
+        @Override
+        public Page<E> previousPage() {
+            return MappedPagination.this.get(pageNumber - 1);
+        }
+    }
+}
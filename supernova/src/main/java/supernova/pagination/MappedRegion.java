@@ -0,0 +1,151 @@
+package supernova.pagination;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * A file mapped into memory in chunks of {@value #CHUNK_SIZE} bytes.
+ *
+ * <p>The file is mapped as a sequence of chunks, each mapped on first access,
+ * so that it grows as it is written. Mapping a chunk beyond the end of the
+ * file extends the file. Values must not straddle a chunk boundary; callers
+ * align or pad their data accordingly. Values are big-endian.
+ *
+ * <p>The chunks are mapped in a shared {@link Arena}, so closing the region
+ * unmaps them right away, before the file is cut to its data. Buffers handed
+ * out by {@link #slice(long, int)} fail with {@link IllegalStateException}
+ * once the region is closed.
+ *
+ * @since 1.1.1
+ */
+final class MappedRegion implements Closeable {
+
+    static final int CHUNK_SIZE = 1 << 26;
+
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+
+    private final FileChannel channel;
+    private final Arena arena = Arena.ofShared();
+    private MemorySegment[] chunks = new MemorySegment[8];
+
+    MappedRegion(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Gets the size of the file, which is larger than the data once a chunk
+     * was mapped beyond its end.
+     */
+    long fileSize() throws IOException {
+        return channel.size();
+    }
+
+    private MemorySegment chunk(long position) {
+        int index = (int) (position / CHUNK_SIZE);
+
+        if (index >= chunks.length) {
+            chunks = Arrays.copyOf(chunks, Math.max(index + 1, chunks.length << 1));
+        }
+
+        MemorySegment chunk = chunks[index];
+        if (chunk == null) {
+            try {
+                chunk = chunks[index] = channel.map(FileChannel.MapMode.READ_WRITE, (long) index * CHUNK_SIZE,
+                        CHUNK_SIZE, arena);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return chunk;
+    }
+
+    int getInt(long position) {
+        return chunk(position).get(INT, position % CHUNK_SIZE);
+    }
+
+    void putInt(long position, int value) {
+        chunk(position).set(INT, position % CHUNK_SIZE, value);
+    }
+
+    long getLong(long position) {
+        return chunk(position).get(LONG, position % CHUNK_SIZE);
+    }
+
+    void putLong(long position, long value) {
+        chunk(position).set(LONG, position % CHUNK_SIZE, value);
+    }
+
+    /**
+     * Gets a big-endian buffer over {@code length} bytes at the position,
+     * which share the mapped memory.
+     */
+    ByteBuffer slice(long position, int length) {
+        return chunk(position).asSlice(position % CHUNK_SIZE, length).asByteBuffer();
+    }
+
+    /**
+     * Gets the number of bytes from the position to the end of its chunk.
+     */
+    static int remainingInChunk(long position) {
+        return CHUNK_SIZE - (int) (position % CHUNK_SIZE);
+    }
+
+    /**
+     * Writes the mapped chunks to the storage device.
+     */
+    void force() {
+        for (MemorySegment chunk : chunks) {
+            if (chunk != null) {
+                chunk.force();
+            }
+        }
+    }
+
+    /**
+     * Writes the mapped chunks to the storage device, unmaps them, cuts the
+     * file to its data and closes it.
+     *
+     * @param length the length of the data
+     */
+    void close(long length) throws IOException {
+        try {
+            force();
+        } finally {
+            unmap();
+        }
+
+        try {
+            channel.truncate(length);
+        } finally {
+            channel.close();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            unmap();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void unmap() {
+        Arrays.fill(chunks, null);
+        if (arena.scope().isAlive()) {
+            arena.close();
+        }
+    }
+}
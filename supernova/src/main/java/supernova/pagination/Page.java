@@ -22,6 +22,8 @@ public interface Page<E> extends List<E> {
     /**
      * Gets the current number of page that this page is currently on.
      *
+     * <p>Page numbers are one-based, as in {@link Pagination#get(int)}.
+     *
      * @return the current number of the page
      */
     int pageNumber();
@@ -37,6 +39,7 @@ public interface Page<E> extends List<E> {
      * Gets the next page.
      *
      * @return the next page
+     * @throws IndexOutOfBoundsException if this is the last page
      */
     Page<E> nextPage();
 
@@ -44,6 +47,7 @@ public interface Page<E> extends List<E> {
      * Gets the previous page.
      *
      * @return the previous page
+     * @throws IndexOutOfBoundsException if this is the first page
      */
     Page<E> previousPage();
 
@@ -53,7 +57,7 @@ public interface Page<E> extends List<E> {
      * @return {@code true} if a next page exists; {@code false} otherwise
      */
     default boolean hasNext() {
-        return pageNumber() + 1 < pagination().pageCount();
+        return pageNumber() < pagination().pageCount();
     }
 
     /**
@@ -62,6 +66,6 @@ public interface Page<E> extends List<E> {
      * @return {@code true} if a previous page exists; {@code false} otherwise
      */
     default boolean hasPrevious() {
-        return pageNumber() > 0;
+        return pageNumber() > 1;
     }
 }
\ No newline at end of file
@@ -0,0 +1,401 @@
+package supernova.pagination;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongFunction;
+
+/**
+ * A bounded cache of the pages loaded by a {@link LazyPagination}.
+ *
+ * <p>The cache is limited by a number of pages, by an estimated number of
+ * bytes, or both. When a limit is exceeded, pages are evicted in CLOCK order,
+ * which approximates least recently used: a hit marks the page as referenced,
+ * and the eviction sweeps the pages in the order they were cached, giving a
+ * referenced page a second chance instead of evicting it. Pages which are
+ * pinned are skipped until they are unpinned, so a cache whose pages are all
+ * pinned may exceed its limits. An evicted page is loaded again from the
+ * source on its next access.
+ *
+ * <p>A cache belongs to one pagination, as pages are identified by their
+ * page number. It is thread-safe; a hit only marks the page and takes no
+ * lock, while loading, pinning and evicting pages do.
+ *
+ * @param <E> the type of elements of the pages
+ * @since 1.1.1
+ */
+public final class PageCache<E> {
+
+    private final int maximumPages;
+    private final long maximumWeight;
+    private final ToLongFunction<? super E> weigher;
+
+    /**
+     * Cached pages, read without locking and modified under {@link #lock}.
+     */
+    private final ConcurrentHashMap<Integer, Entry<E>> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * The clock of the cached pages in the order they were cached, guarded by
+     * {@link #lock}. Pages which were removed from {@link #entries} are
+     * dropped when the sweep reaches them.
+     */
+    private final ArrayDeque<Entry<E>> clock = new ArrayDeque<>();
+
+    private long weight;
+    private long evictions;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * The pagination using this cache, {@code null} until bound.
+     */
+    private Object owner;
+
+    private PageCache(Builder<E> builder) {
+        this.maximumPages = builder.maximumPages;
+        this.maximumWeight = builder.maximumWeight;
+        this.weigher = builder.weigher;
+    }
+
+    /**
+     * Creates a {@link PageCache} builder.
+     *
+     * @return a PageCache builder
+     * @param <E> the type of elements of the pages
+     */
+    public static <E> Builder<E> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Creates a cache which holds at most the given number of pages.
+     *
+     * @param maximumPages the maximum number of pages
+     * @return the cache
+     * @param <E> the type of elements of the pages
+     */
+    public static <E> PageCache<E> ofPages(int maximumPages) {
+        return PageCache.<E>builder().maximumPages(maximumPages).build();
+    }
+
+    /**
+     * Binds the cache to its pagination.
+     *
+     * @throws IllegalArgumentException if the cache is used by another pagination
+     */
+    void bind(Object pagination) {
+        lock.lock();
+        try {
+            if (owner != null && owner != pagination) {
+                throw new IllegalArgumentException("Page cache is already used by another pagination");
+            }
+            owner = pagination;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the elements of a cached page and marks it as recently used.
+     *
+     * @return the elements, or {@code null} if the page is not cached
+     */
+    List<E> get(int pageNumber) {
+        Entry<E> entry = entries.get(pageNumber);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        return entry.elements;
+    }
+
+    /**
+     * Gets the elements of a cached page without counting a hit or miss.
+     *
+     * @return the elements, or {@code null} if the page is not cached
+     */
+    List<E> peek(int pageNumber) {
+        Entry<E> entry = entries.get(pageNumber);
+        return entry == null ? null : entry.elements;
+    }
+
+    void put(int pageNumber, List<E> elements) {
+        long pageWeight = weigh(elements);
+
+        lock.lock();
+        try {
+            Entry<E> entry = new Entry<>(pageNumber, elements, pageWeight);
+            Entry<E> previous = entries.put(pageNumber, entry);
+            weight += pageWeight;
+            if (previous != null) {
+                weight -= previous.weight;
+                entry.pins = previous.pins;
+            }
+            enqueue(entry);
+            evict();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Pins a page, caching it if it is not cached.
+     */
+    void pin(int pageNumber, List<E> elements) {
+        long pageWeight = weigh(elements);
+
+        lock.lock();
+        try {
+            Entry<E> entry = entries.get(pageNumber);
+            if (entry == null) {
+                entry = new Entry<>(pageNumber, elements, pageWeight);
+                entries.put(pageNumber, entry);
+                weight += pageWeight;
+                enqueue(entry);
+            }
+            entry.pins++;
+            evict();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Unpins a page; the page can be evicted once it is unpinned as often as
+     * it was pinned.
+     *
+     * @return {@code false} if the page was not pinned
+     */
+    boolean unpin(int pageNumber) {
+        lock.lock();
+        try {
+            Entry<E> entry = entries.get(pageNumber);
+            if (entry == null || entry.pins == 0) {
+                return false;
+            }
+            if (--entry.pins == 0) {
+                evict();
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the page is cached, without marking it as used.
+     *
+     * @param pageNumber the page number
+     * @return {@code true} if the page is cached
+     */
+    public boolean contains(int pageNumber) {
+        return entries.containsKey(pageNumber);
+    }
+
+    /**
+     * Removes a page, even if it is pinned.
+     *
+     * @param pageNumber the page number
+     */
+    public void invalidate(int pageNumber) {
+        lock.lock();
+        try {
+            Entry<E> entry = entries.remove(pageNumber);
+            if (entry != null) {
+                weight -= entry.weight;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all the pages, even if they are pinned.
+     */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            entries.clear();
+            clock.clear();
+            weight = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes a snapshot of the statistics of the cache.
+     *
+     * @return the statistics
+     */
+    public Stats stats() {
+        lock.lock();
+        try {
+            return new Stats(hits.sum(), misses.sum(), evictions, entries.size(), weight);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long weigh(List<E> elements) {
+        if (weigher == null) {
+            return 0;
+        }
+
+        long pageWeight = 0;
+        for (E element : elements) {
+            pageWeight += weigher.applyAsLong(element);
+        }
+        return pageWeight;
+    }
+
+    private boolean isCached(Entry<E> entry) {
+        return entries.get(entry.pageNumber) == entry;
+    }
+
+    /**
+     * Adds a page to the clock, first dropping removed pages if they make up
+     * most of it, so that invalidating does not grow the clock.
+     */
+    private void enqueue(Entry<E> entry) {
+        if (clock.size() > 2 * entries.size() + 16) {
+            clock.removeIf(cached -> !isCached(cached));
+        }
+        clock.add(entry);
+    }
+
+    /**
+     * Evicts unpinned pages in CLOCK order until the limits hold.
+     */
+    private void evict() {
+        int skipped = 0;
+
+        while ((entries.size() > maximumPages || weight > maximumWeight) && !clock.isEmpty()) {
+            Entry<E> entry = clock.poll();
+            if (!isCached(entry)) {
+                continue;
+            }
+
+            if (entry.pins > 0 || entry.referenced) {
+                entry.referenced = false;
+                clock.add(entry);
+                // a second full sweep without an eviction finds only pinned pages
+                if (++skipped > 2 * clock.size()) {
+                    return;
+                }
+                continue;
+            }
+
+            entries.remove(entry.pageNumber);
+            weight -= entry.weight;
+            evictions++;
+            skipped = 0;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PageCache[" + stats() + ']';
+    }
+
+    private static final class Entry<E> {
+
+        private final int pageNumber;
+        private final List<E> elements;
+        private final long weight;
+
+        /**
+         * Number of pins, guarded by the lock of the cache.
+         */
+        private int pins;
+
+        /**
+         * Whether the page was accessed since the sweep of the clock last
+         * passed it.
+         */
+        private volatile boolean referenced;
+
+        private Entry(int pageNumber, List<E> elements, long weight) {
+            this.pageNumber = pageNumber;
+            this.elements = elements;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Statistics of a {@link PageCache}.
+     *
+     * @param hits number of page accesses answered from the cache
+     * @param misses number of page accesses which had to load the page
+     * @param evictions number of pages evicted because a limit was exceeded
+     * @param pages number of cached pages
+     * @param weight estimated number of bytes of the cached pages, {@code 0}
+     *        without a weigher
+     */
+    public record Stats(long hits, long misses, long evictions, int pages, long weight) {
+    }
+
+    /**
+     * Builder of a {@link PageCache}.
+     *
+     * @param <E> the type of elements of the pages
+     */
+    public static final class Builder<E> {
+
+        private int maximumPages = 64;
+        private long maximumWeight = Long.MAX_VALUE;
+        private ToLongFunction<? super E> weigher;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum number of cached pages, 64 by default.
+         *
+         * @param maximumPages the maximum number of pages
+         * @return this builder
+         */
+        public Builder<E> maximumPages(int maximumPages) {
+            if (maximumPages < 1) {
+                throw new IllegalArgumentException("Maximum pages must be positive: " + maximumPages);
+            }
+            this.maximumPages = maximumPages;
+            return this;
+        }
+
+        /**
+         * Limits the estimated number of bytes of the cached pages, in
+         * addition to the number of pages.
+         *
+         * @param maximumBytes the maximum number of bytes
+         * @param weigher estimates the number of bytes of an element
+         * @return this builder
+         */
+        public Builder<E> maximumBytes(long maximumBytes, ToLongFunction<? super E> weigher) {
+            if (maximumBytes < 1) {
+                throw new IllegalArgumentException("Maximum bytes must be positive: " + maximumBytes);
+            }
+            this.maximumWeight = maximumBytes;
+            this.weigher = Objects.requireNonNull(weigher, "weigher");
+            return this;
+        }
+
+        /**
+         * Builds the cache.
+         *
+         * @return the cache
+         */
+        public PageCache<E> build() {
+            return new PageCache<>(this);
+        }
+    }
+}
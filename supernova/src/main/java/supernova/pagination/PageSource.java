@@ -0,0 +1,61 @@
+package supernova.pagination;
+
+import java.util.List;
+
+/**
+ * A source of the elements of a {@link LazyPagination}, loaded one page at a
+ * time.
+ *
+ * <p>Implementations read from wherever the elements live, e.g. a file, a
+ * database or a remote API. Both methods may be called from several threads
+ * at once, including the background threads of prefetching. Failures are
+ * reported as unchecked exceptions, e.g.
+ * {@link java.io.UncheckedIOException}.
+ *
+ * @param <E> the type of elements
+ * @since 1.1.1
+ */
+public interface PageSource<E> {
+
+    /**
+     * Gets the total number of elements.
+     *
+     * @return the number of elements
+     */
+    int size();
+
+    /**
+     * Loads a range of elements.
+     *
+     * <p>The returned list must contain exactly the elements in
+     * {@code [offset, min(offset + limit, size()))}. It is owned by the
+     * pagination afterwards and must not be modified.
+     *
+     * @param offset the index of the first element
+     * @param limit the maximum number of elements
+     * @return the elements
+     */
+    List<E> load(int offset, int limit);
+
+    /**
+     * Creates a source of the elements of a list, mainly as a stand-in for
+     * real sources.
+     *
+     * @param elements the elements
+     * @return the source
+     * @param <E> the type of elements
+     */
+    static <E> PageSource<E> of(List<E> elements) {
+        return new PageSource<>() {
+            @Override
+            public int size() {
+                return elements.size();
+            }
+
+            @Override
+            public List<E> load(int offset, int limit) {
+                return elements.subList(offset, Math.min(offset + limit, elements.size()));
+            }
+        };
+    }
+}
@@ -0,0 +1,81 @@
+package supernova.pagination;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.RandomAccess;
+
+/**
+ * A {@link Page} which is a view over a range of its pagination.
+ *
+ * <p>The view holds only its pagination and page number; the range is
+ * computed on access, so the view always reflects the current elements of
+ * the page. Elements can be replaced through the view if the pagination
+ * supports it, while adding and removing goes through the pagination.
+ *
+ * @param <E> the type of elements contained in this page
+ * @since 1.1.1
+ */
+final class PageView<E> extends AbstractList<E> implements Page<E>, RandomAccess {
+
+    private final AbstractPagination<E> pagination;
+    private final int pageNumber;
+
+    PageView(AbstractPagination<E> pagination, int pageNumber) {
+        this.pagination = pagination;
+        this.pageNumber = pageNumber;
+    }
+
+    private int offset() {
+        return (pageNumber - 1) * pagination.pageSize;
+    }
+
+    @Override
+    public E get(int index) {
+        return pagination.element(toPaginationIndex(index));
+    }
+
+    @Override
+    public E set(int index, E element) {
+        return pagination.setElement(toPaginationIndex(index), element);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        int offset = offset();
+        return pagination.iterator(offset, offset + size());
+    }
+
+    @Override
+    public int size() {
+        int remaining = pagination.size() - offset();
+        return remaining <= 0 ? 0 : Math.min(remaining, pagination.pageSize);
+    }
+
+    private int toPaginationIndex(int index) {
+        int size = size();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", page size: " + size);
+        }
+        return offset() + index;
+    }
+
+    @Override
+    public int pageNumber() {
+        return pageNumber;
+    }
+
+    @Override
+    public Pagination<E> pagination() {
+        return pagination;
+    }
+
+    @Override
+    public Page<E> nextPage() {
+        return pagination.get(pageNumber + 1);
+    }
+
+    @Override
+    public Page<E> previousPage() {
+        return pagination.get(pageNumber - 1);
+    }
+}
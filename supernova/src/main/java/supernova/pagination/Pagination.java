@@ -36,6 +36,13 @@ public interface Pagination<E> extends Iterable<E> {
      */
     int pageCount();
 
+    /**
+     * Gets the total number of elements across all pages.
+     *
+     * @return the number of elements
+     */
+    int size();
+
     /**
      * Checks if the pagination is empty.
      *
@@ -0,0 +1,412 @@
+package supernova.pagination;
+
+import supernova.pagination.KeysetPage.Cursor;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A {@link Pagination} backed by a balanced tree whose nodes count their
+ * elements, for contents that change while pages are read.
+ *
+ * <p>Inserting or removing at a position, and finding the page of an index,
+ * are {@code O(log n)}; nothing is shifted across pages and there are no
+ * pages to rebalance. Pages are views which are resolved against the tree on
+ * access, so they always show the current elements of their range.
+ *
+ * <p>A pagination created with a comparator keeps its elements sorted, e.g.
+ * a leaderboard by score: {@link #add(Object)} inserts at the sorted
+ * position, after equal elements, and {@link #remove(Object)} and
+ * {@link #indexOf(Object)} find the element in {@code O(log n)}. Otherwise
+ * {@link #add(Object)} appends and elements can be inserted at any position.
+ *
+ * <p>A sorted pagination can also be read by keys rather than offsets:
+ * {@link #seek(Object)}, {@link #after(Cursor)} and {@link #before(Cursor)}
+ * find a {@link KeysetPage} in {@code O(log n)} and its cursors lead to the
+ * neighbouring pages, which stay in place while elements are added before
+ * them.
+ *
+ * <p>This pagination is not thread-safe.
+ *
+ * @param <E> the type of elements contained in this pagination
+ * @since 1.1.1
+ */
+public final class TreePagination<E> extends AbstractPagination<E> {
+
+    final CountedTree<E> tree = new CountedTree<>();
+    private final Comparator<? super E> comparator;
+
+    /**
+     * Creates an empty pagination in insertion order.
+     *
+     * @param pageSize the maximum number of elements of a page
+     * @throws IllegalArgumentException if the page size is not positive
+     */
+    public TreePagination(int pageSize) {
+        super(pageSize);
+        this.comparator = null;
+    }
+
+    /**
+     * Creates an empty pagination sorted by the comparator.
+     *
+     * @param pageSize the maximum number of elements of a page
+     * @param comparator the order of the elements
+     * @throws IllegalArgumentException if the page size is not positive
+     */
+    public TreePagination(int pageSize, Comparator<? super E> comparator) {
+        super(pageSize);
+        this.comparator = Objects.requireNonNull(comparator, "comparator");
+    }
+
+    /**
+     * Creates a pagination of the elements of a collection, in its iteration
+     * order.
+     *
+     * @param pageSize the maximum number of elements of a page
+     * @param elements the elements
+     * @throws IllegalArgumentException if the page size is not positive
+     */
+    public TreePagination(int pageSize, Collection<? extends E> elements) {
+        this(pageSize);
+        for (E element : elements) {
+            tree.insert(tree.size(), element);
+        }
+    }
+
+    /**
+     * Gets the order of the elements.
+     *
+     * @return the comparator, or {@code null} if the elements are in insertion
+     *         order
+     */
+    public Comparator<? super E> comparator() {
+        return comparator;
+    }
+
+    @Override
+    E element(int index) {
+        return tree.get(index);
+    }
+
+    @Override
+    E setElement(int index, E element) {
+        if (comparator != null) {
+            throw new UnsupportedOperationException("Elements of a sorted pagination cannot be replaced");
+        }
+        return tree.set(index, element);
+    }
+
+    @Override
+    public int size() {
+        return tree.size();
+    }
+
+    /**
+     * Adds an element at the end, or at its sorted position if the pagination
+     * has a comparator.
+     *
+     * @param element the instance of the element
+     * @return {@code true}
+     */
+    @Override
+    public boolean add(E element) {
+        tree.insert(comparator == null ? tree.size() : tree.upperBound(element, comparator), element);
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Inserts an element at the index, shifting the following elements by one
+     * position.
+     *
+     * @param index the index of the element
+     * @param element the instance of the element
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         ({@code index < 0 || index > size()})
+     * @throws UnsupportedOperationException if the pagination is sorted
+     */
+    public void add(int index, E element) {
+        if (comparator != null) {
+            throw new UnsupportedOperationException("Elements of a sorted pagination are added by order");
+        }
+        if (index < 0 || index > tree.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + tree.size());
+        }
+        tree.insert(index, element);
+        modCount++;
+    }
+
+    @Override
+    public boolean remove(E element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        tree.remove(index);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(int index) {
+        checkIndex(index);
+        tree.remove(index);
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Gets the element at the index.
+     *
+     * @param index the index of the element
+     * @return the element
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         ({@code index < 0 || index >= size()})
+     */
+    public E getElement(int index) {
+        checkIndex(index);
+        return tree.get(index);
+    }
+
+    /**
+     * Finds the index of the first element equal to the given one.
+     *
+     * <p>A sorted pagination searches among the elements which compare as
+     * equal, an unsorted one scans all elements.
+     *
+     * @param element the element
+     * @return the index, or {@code -1} if there is no such element
+     */
+    public int indexOf(E element) {
+        int index = 0;
+        int end = tree.size();
+
+        if (comparator != null) {
+            index = tree.lowerBound(element, comparator);
+            end = tree.upperBound(element, comparator);
+        }
+
+        for (Iterator<E> iterator = tree.iterator(index, end); iterator.hasNext(); index++) {
+            if (Objects.equals(element, iterator.next())) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes all the elements.
+     */
+    public void clear() {
+        tree.clear();
+        modCount++;
+    }
+
+    /**
+     * Gets the keyset page of the first elements.
+     *
+     * @return the page, empty if the pagination is empty
+     * @throws UnsupportedOperationException if the pagination is not sorted
+     */
+    public KeysetPage<E> seekFirst() {
+        requireSorted();
+        return keyset(0, Math.min(pageSize, tree.size()));
+    }
+
+    /**
+     * Gets the keyset page of the last elements.
+     *
+     * @return the page, empty if the pagination is empty
+     * @throws UnsupportedOperationException if the pagination is not sorted
+     */
+    public KeysetPage<E> seekLast() {
+        requireSorted();
+        int to = tree.size();
+        return keyset(Math.max(0, to - pageSize), to);
+    }
+
+    /**
+     * Gets the keyset page starting at the first element which is not less
+     * than the key.
+     *
+     * @param key the key
+     * @return the page, empty if all elements are less than the key
+     * @throws UnsupportedOperationException if the pagination is not sorted
+     */
+    public KeysetPage<E> seek(E key) {
+        requireSorted();
+        int from = tree.lowerBound(key, comparator);
+        return keyset(from, Math.min(from + pageSize, tree.size()));
+    }
+
+    /**
+     * Gets the keyset page starting right after the cursor.
+     *
+     * @param cursor the cursor, e.g. {@link KeysetPage#lastCursor()}
+     * @return the page, empty if no element follows the cursor
+     * @throws UnsupportedOperationException if the pagination is not sorted
+     */
+    public KeysetPage<E> after(Cursor<E> cursor) {
+        requireSorted();
+        int from = position(cursor, 1);
+        return keyset(from, Math.min(from + pageSize, tree.size()));
+    }
+
+    /**
+     * Gets the keyset page ending right before the cursor.
+     *
+     * @param cursor the cursor, e.g. {@link KeysetPage#firstCursor()}
+     * @return the page, empty if no element precedes the cursor
+     * @throws UnsupportedOperationException if the pagination is not sorted
+     */
+    public KeysetPage<E> before(Cursor<E> cursor) {
+        requireSorted();
+        int to = position(cursor, 0);
+        return keyset(Math.max(0, to - pageSize), to);
+    }
+
+    private void requireSorted() {
+        if (comparator == null) {
+            throw new UnsupportedOperationException("Keyset pages require a sorted pagination");
+        }
+    }
+
+    /**
+     * Finds the index of the element of the cursor plus the shift, limited to
+     * the end of the elements which compare as equal to its key.
+     */
+    private int position(Cursor<E> cursor, int shift) {
+        Objects.requireNonNull(cursor, "cursor");
+        int lower = tree.lowerBound(cursor.key(), comparator);
+        int upper = tree.upperBound(cursor.key(), comparator);
+        return (int) Math.min((long) lower + cursor.ordinal() + shift, upper);
+    }
+
+    private Cursor<E> cursor(int index, E element) {
+        return new Cursor<>(element, index - tree.lowerBound(element, comparator));
+    }
+
+    private KeysetPage<E> keyset(int from, int to) {
+        Object[] elements = new Object[to - from];
+        Iterator<E> iterator = tree.iterator(from, to);
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = iterator.next();
+        }
+        return new Keyset(from, elements);
+    }
+
+    @Override
+    Iterator<E> iterator(int from, int to) {
+        Iterator<E> iterator = tree.iterator(from, to);
+        int expectedModCount = modCount;
+
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public E next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                return iterator.next();
+            }
+        };
+    }
+
+    /**
+     * A snapshot of the elements of a keyset page.
+     */
+    private final class Keyset extends AbstractList<E> implements KeysetPage<E>, RandomAccess {
+
+        private final int pageNumber;
+        private final Object[] elements;
+        private final Cursor<E> first;
+        private final Cursor<E> last;
+
+        @SuppressWarnings("unchecked")
+        private Keyset(int from, Object[] elements) {
+            this.pageNumber = from / pageSize + 1;
+            this.elements = elements;
+
+            int length = elements.length;
+            this.first = length == 0 ? null : cursor(from, (E) elements[0]);
+            this.last = length == 0 ? null : cursor(from + length - 1, (E) elements[length - 1]);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E get(int index) {
+            if (index < 0 || index >= elements.length) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", page size: " + elements.length);
+            }
+            return (E) elements[index];
+        }
+
+        @Override
+        public int size() {
+            return elements.length;
+        }
+
+        @Override
+        public int pageNumber() {
+            return pageNumber;
+        }
+
+        @Override
+        public Pagination<E> pagination() {
+            return TreePagination.this;
+        }
+
+        @Override
+        public Cursor<E> firstCursor() {
+            if (first == null) {
+                throw new NoSuchElementException("Page is empty");
+            }
+            return first;
+        }
+
+        @Override
+        public Cursor<E> lastCursor() {
+            if (last == null) {
+                throw new NoSuchElementException("Page is empty");
+            }
+            return last;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return last != null && position(last, 1) < tree.size();
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return first != null && position(first, 0) > 0;
+        }
+
+        @Override
+        public KeysetPage<E> nextPage() {
+            if (!hasNext()) {
+                throw new IndexOutOfBoundsException("No element follows page " + pageNumber);
+            }
+            return after(last);
+        }
+
+        @Override
+        public KeysetPage<E> previousPage() {
+            if (!hasPrevious()) {
+                throw new IndexOutOfBoundsException("No element precedes page " + pageNumber);
+            }
+            return before(first);
+        }
+    }
+}